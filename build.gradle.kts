@@ -19,6 +19,7 @@
 import com.aerospike.connect.configureDependencyUpdate
 import com.aerospike.connect.configureProperties
 import com.aerospike.connect.createGithubPublishTasks
+import com.aerospike.connect.setupBenchmarks
 import com.aerospike.connect.setupJavaBuild
 import com.aerospike.connect.setupOssrhCredentialValidation
 import com.aerospike.connect.setupPublishingTasks
@@ -104,5 +105,6 @@ allprojects {
     project.setupOssrhCredentialValidation()
     project.setupVulnerabilityScanning()
     project.setupTests()
+    project.setupBenchmarks()
     project.configureDependencyUpdate()
 }
@@ -33,6 +33,7 @@ dependencies {
     api("io.snyk.gradle.plugin.snykplugin:io.snyk.gradle.plugin.snykplugin.gradle.plugin:0.7.0")
     api("com.github.breadmoirai:github-release:2.5.2")
     api("com.github.ben-manes:gradle-versions-plugin:+")
+    api("me.champeau.jmh:jmh-gradle-plugin:0.7.2")
 
     val jacksonVersion = "2.22.1"
     api("com.fasterxml.jackson.core:jackson-databind:$jacksonVersion")
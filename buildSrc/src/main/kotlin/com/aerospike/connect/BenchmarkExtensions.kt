@@ -0,0 +1,62 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect
+
+import me.champeau.jmh.JmhParameters
+import org.gradle.api.Project
+import org.gradle.api.tasks.SourceSetContainer
+import org.gradle.kotlin.dsl.configure
+import org.gradle.kotlin.dsl.dependencies
+import org.gradle.kotlin.dsl.get
+
+/**
+ * Setup the JMH benchmarks in src/jmh/java. The bundled Kafka example
+ * transformers are compiled into the benchmarks so that they are measured
+ * against the current SDK sources.
+ *
+ * Run with `./gradlew jmh`, a subset with
+ * `./gradlew jmh -PjmhIncludes=InboundMessageBenchmark`. The GC profiler
+ * reports the bytes allocated per operation as `gc.alloc.rate.norm`.
+ */
+fun Project.setupBenchmarks() {
+    pluginManager.apply("me.champeau.jmh")
+
+    val sourceSets = extensions["sourceSets"] as SourceSetContainer
+    sourceSets["jmh"].java.srcDir(rootProject.file("examples/kafka/src/main/java"))
+
+    dependencies {
+        "jmhImplementation"("org.slf4j:slf4j-api:2.0.17")
+        "jmhImplementation"("javax.inject:javax.inject:1")
+        "jmhImplementation"("org.apache.kafka:connect-api:4.2.0")
+    }
+
+    extensions.configure<JmhParameters>("jmh") {
+        jmhVersion.set("1.37")
+        profilers.add("gc")
+        resultFormat.set("JSON")
+        fork.set(1)
+        warmupIterations.set(3)
+        iterations.set(5)
+
+        val jmhIncludes = findProperty("jmhIncludes") as String?
+        if (jmhIncludes != null) {
+            includes.add(jmhIncludes)
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.benchmark;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.model.InboundMessageTransformerConfig;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.kafka.inbound.CDTMessageTransformer;
+import com.aerospike.connect.kafka.inbound.CasCDTMessageTransformer;
+import com.aerospike.connect.kafka.inbound.KafkaTombstoneMessageTransformer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the Kafka example transformers, which build the typical
+ * operations of a transformer: CDT operations, a read followed by a put or
+ * an operate, and a put or delete of a single bin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExampleTransformerBenchmark {
+    private final CDTMessageTransformer cdtTransformer =
+            new CDTMessageTransformer();
+
+    private final KafkaTombstoneMessageTransformer tombstoneTransformer =
+            new KafkaTombstoneMessageTransformer();
+
+    private CasCDTMessageTransformer casCdtAppendTransformer;
+    private CasCDTMessageTransformer casCdtCreateTransformer;
+
+    private InboundMessage<Object, Object> rocketSale;
+    private InboundMessage<Object, Object> callDetailRecord;
+    private InboundMessage<Object, SinkRecord> tombstone;
+    private InboundMessage<Object, SinkRecord> kafkaRecord;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> rocket = new HashMap<>();
+        rocket.put("model", "Falcon 9");
+        rocket.put("manufacturer", "SpaceX");
+        rocket.put("thrust", 7607);
+        rocket.put("price", 62.0);
+        rocket.put("profit", 4.5);
+
+        Map<String, Object> saleFields = new HashMap<>();
+        saleFields.put("key", "dealership-1");
+        saleFields.put("rocket", rocket);
+        rocketSale = new InboundMessage<>(null, saleFields, null, null,
+                saleFields, Collections.emptySet());
+
+        Map<String, Object> cdrFields = new HashMap<>();
+        cdrFields.put("name", "subscriber-1");
+        cdrFields.put("duration", 120);
+        callDetailRecord = new InboundMessage<>(null, cdrFields, null, null,
+                cdrFields, Collections.emptySet());
+
+        Map<String, Object> transformerConfig = new HashMap<>();
+        transformerConfig.put("topicName", "cdr");
+        InboundMessageTransformerConfig config =
+                new InboundMessageTransformerConfig(
+                        CasCDTMessageTransformer.class, transformerConfig,
+                        false);
+
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("cdrs", Arrays.asList("cdr_2", "cdr_1"));
+        casCdtAppendTransformer = new CasCDTMessageTransformer(
+                new FixedAerospikeReader(new Record(bins, 1, 0)), config);
+        casCdtCreateTransformer = new CasCDTMessageTransformer(
+                new FixedAerospikeReader(null), config);
+
+        tombstone = new InboundMessage<>("jumbo_jet",
+                new SinkRecord("aircraft", 0, null, "jumbo_jet", null, null, 0),
+                null, null, Collections.emptyMap(), Collections.emptySet());
+        Map<String, Object> kafkaFields =
+                Collections.singletonMap("name", "kevin");
+        kafkaRecord = new InboundMessage<>("kevin",
+                new SinkRecord("people", 0, null, "kevin", null, kafkaFields,
+                        1),
+                null, null, kafkaFields, Collections.emptySet());
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation cdtSale() {
+        return cdtTransformer.transform(rocketSale);
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation casCdtAppend() {
+        return casCdtAppendTransformer.transform(callDetailRecord);
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation casCdtCreate() {
+        return casCdtCreateTransformer.transform(callDetailRecord);
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation kafkaTombstone() {
+        return tombstoneTransformer.transform(tombstone);
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation kafkaPut() {
+        return tombstoneTransformer.transform(kafkaRecord);
+    }
+
+    /**
+     * Returns the same record for every key without a round trip, so the
+     * benchmark measures the transformer alone.
+     */
+    private static class FixedAerospikeReader implements AerospikeReader {
+        private final Record record;
+
+        private FixedAerospikeReader(Record record) {
+            this.record = record;
+        }
+
+        @Override
+        @Deprecated
+        public Record getRecord(Key key) throws AerospikeException {
+            return record;
+        }
+
+        @Override
+        public Record get(Policy policy, Key key) throws AerospikeException {
+            return record;
+        }
+
+        @Override
+        public Record get(Policy policy, Key key, String... binNames)
+                throws AerospikeException {
+            return record;
+        }
+
+        @Override
+        public void get(BatchPolicy policy, List<BatchRead> records)
+                throws AerospikeException {
+            for (BatchRead batchRead : records) {
+                batchRead.record = record;
+            }
+        }
+
+        @Override
+        public Record[] get(BatchPolicy policy, Key[] keys)
+                throws AerospikeException {
+            Record[] records = new Record[keys.length];
+            Arrays.fill(records, record);
+            return records;
+        }
+
+        @Override
+        public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+                throws AerospikeException {
+            return get(policy, keys);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.benchmark;
+
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.model.FieldSchema;
+import com.aerospike.connect.inbound.model.FieldSlot;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.model.SchemaFieldMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the per message costs outside of a transformer: building the
+ * fields and the {@link InboundMessage} and creating the Aerospike
+ * {@link Key}, which hashes the user key into a digest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InboundMessageBenchmark {
+    private final FieldSchema schema =
+            FieldSchema.of("name", "age", "city", "score");
+
+    private final FieldSlot nameSlot = schema.slot("name");
+    private final FieldSlot ageSlot = schema.slot("age");
+    private final FieldSlot citySlot = schema.slot("city");
+    private final FieldSlot scoreSlot = schema.slot("score");
+
+    private final SchemaFieldMap.Builder fieldMapBuilder =
+            SchemaFieldMap.builder(schema);
+
+    private final Set<String> fieldNames =
+            new LinkedHashSet<>(schema.getFieldNames());
+
+    private String userKey;
+    private long longUserKey;
+    private byte[] digest;
+
+    @Setup
+    public void setup() {
+        userKey = "user-" + System.nanoTime();
+        longUserKey = System.nanoTime();
+        digest = new Key("test", "users", userKey).digest;
+    }
+
+    @Benchmark
+    public InboundMessage<String, String> newInboundMessage() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("name", "Alice");
+        fields.put("age", 42L);
+        fields.put("city", "Bangalore");
+        fields.put("score", 0.5);
+        return new InboundMessage<>(userKey, userKey, null, null, fields,
+                Collections.emptySet());
+    }
+
+    @Benchmark
+    public InboundMessage<String, String> newLazyInboundMessage() {
+        return new InboundMessage<>(userKey, userKey, null, null, fieldNames,
+                name -> name, Collections.emptySet());
+    }
+
+    @Benchmark
+    public long newSchemaFieldMapInboundMessage() {
+        SchemaFieldMap fields = fieldMapBuilder
+                .set(nameSlot, "Alice")
+                .setLong(ageSlot, 42L)
+                .set(citySlot, "Bangalore")
+                .setDouble(scoreSlot, 0.5)
+                .build();
+        return new InboundMessage<>(userKey, userKey, null, null, fields,
+                Collections.emptySet()).getLong(ageSlot);
+    }
+
+    @Benchmark
+    public Key newStringKey() {
+        return new Key("test", "users", userKey);
+    }
+
+    @Benchmark
+    public Key newLongKey() {
+        return new Key("test", "users", longUserKey);
+    }
+
+    @Benchmark
+    public Key newKeyFromDigest() {
+        return new Key("test", digest, "users", null);
+    }
+}
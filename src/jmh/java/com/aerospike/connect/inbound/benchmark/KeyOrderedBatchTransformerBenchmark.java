@@ -0,0 +1,114 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.benchmark;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.BatchInboundMessageTransformer;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.InboundMessageTransformerBatchAdapter;
+import com.aerospike.connect.inbound.KeyOrderedBatchTransformer;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@link KeyOrderedBatchTransformer} against transforming the
+ * batch on the calling thread, for a batch spread over a number of keys and
+ * transforms of a given amount of work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(KeyOrderedBatchTransformerBenchmark.BATCH_SIZE)
+public class KeyOrderedBatchTransformerBenchmark {
+    static final int BATCH_SIZE = 1024;
+
+    /**
+     * The number of distinct Aerospike keys in a batch.
+     */
+    @Param({"1", "64"})
+    public int keyCount;
+
+    /**
+     * The number of messages transformed in parallel.
+     */
+    @Param({"2", "4", "8"})
+    public int laneCount;
+
+    /**
+     * The work of a transform in JMH CPU tokens.
+     */
+    @Param({"100", "1000"})
+    public int work;
+
+    private List<InboundMessage<String, String>> batch;
+    private BatchInboundMessageTransformer<InboundMessage<String, String>> serial;
+    private KeyOrderedBatchTransformer<InboundMessage<String, String>> keyOrdered;
+
+    @Setup
+    public void setup() {
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < keyCount; i++) {
+            keys.add(new Key("test", "users", "user-" + i));
+        }
+
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new InboundMessage<>(null, "message-" + i,
+                    keys.get(i % keyCount), null, Collections.emptyMap(),
+                    Collections.emptySet()));
+        }
+
+        InboundMessageTransformer<InboundMessage<String, String>> transformer =
+                input -> {
+                    Blackhole.consumeCPU(work);
+                    return new AerospikePutOperation(input.getKey().orElse(null),
+                            null, Collections.singletonList(
+                            new Bin("message", input.getMessage())));
+                };
+        serial = new InboundMessageTransformerBatchAdapter<>(transformer);
+        keyOrdered = KeyOrderedBatchTransformer.forInboundMessages(transformer,
+                laneCount);
+    }
+
+    @Benchmark
+    public List<AerospikeRecordOperation> serial() {
+        return serial.transformBatch(batch);
+    }
+
+    @Benchmark
+    public List<AerospikeRecordOperation> keyOrdered() {
+        return keyOrdered.transformBatch(batch);
+    }
+}
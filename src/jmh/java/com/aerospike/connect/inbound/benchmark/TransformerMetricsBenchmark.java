@@ -0,0 +1,107 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.benchmark;
+
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.jfr.JfrInboundMessageTransformer;
+import com.aerospike.connect.inbound.metrics.MeteredInboundMessageTransformer;
+import com.aerospike.connect.inbound.metrics.NoopTransformerMetrics;
+import com.aerospike.connect.inbound.metrics.StripedTransformerMetrics;
+import com.aerospike.connect.inbound.operation.AerospikeDeleteOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks of the per message overhead of
+ * {@link MeteredInboundMessageTransformer} and of
+ * {@link JfrInboundMessageTransformer} while no recording is running: the
+ * difference between a decorated and the bare transform. Run with the
+ * default single thread and with {@code -t} set to the number of cores to
+ * see the cost of contended counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransformerMetricsBenchmark {
+    private final AerospikeRecordOperation operation =
+            new AerospikeDeleteOperation(new Key("test", "users", "alice"),
+                    null);
+
+    private final InboundMessageTransformer<String> transformer =
+            input -> operation;
+
+    /**
+     * Wrapped with the constructor to measure reading the clock for the
+     * sampled transforms, {@link MeteredInboundMessageTransformer#of} would
+     * not wrap at all.
+     */
+    private final InboundMessageTransformer<String> noopMetered =
+            new MeteredInboundMessageTransformer<>(transformer,
+                    NoopTransformerMetrics.INSTANCE);
+
+    private final InboundMessageTransformer<String> stripedMetered =
+            MeteredInboundMessageTransformer.of(transformer,
+                    new StripedTransformerMetrics());
+
+    private final InboundMessageTransformer<String> stripedMeteredAll =
+            MeteredInboundMessageTransformer.of(transformer,
+                    new StripedTransformerMetrics(), 1);
+
+    private final InboundMessageTransformer<String> jfrRecorded =
+            new JfrInboundMessageTransformer<>(transformer);
+
+    @Benchmark
+    public AerospikeRecordOperation bare() {
+        return transformer.transform("alice");
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation noopMetrics() {
+        return noopMetered.transform("alice");
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation stripedMetrics() {
+        return stripedMetered.transform("alice");
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation stripedMetricsTimingAll() {
+        return stripedMeteredAll.transform("alice");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public AerospikeRecordOperation stripedMetricsContended() {
+        return stripedMetered.transform("alice");
+    }
+
+    @Benchmark
+    public AerospikeRecordOperation jfrWithoutRecording() {
+        return jfrRecorded.transform("alice");
+    }
+}
@@ -21,10 +21,14 @@ package com.aerospike.connect.inbound;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.BatchRead;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -110,4 +114,166 @@ public interface AerospikeReader {
      * @return array of records
      */
     Record[] get(BatchPolicy policy, Key[] keys, String... binNames) throws AerospikeException;
+
+    /**
+     * Determine if a record key exists.
+     * The policy can be used to specify timeouts.
+     * <p>
+     * The default implementation reads the record header with
+     * {@link #getHeader(Policy, Key)}.
+     *
+     * @param policy generic configuration parameters, pass in null for defaults
+     * @param key    unique record identifier
+     * @return whether record exists or not
+     * @throws AerospikeException if command fails
+     */
+    default boolean exists(Policy policy, Key key) throws AerospikeException {
+        return getHeader(policy, key) != null;
+    }
+
+    /**
+     * Check if multiple record keys exist in one batch call.
+     * The returned boolean array is in positional order with the original key array order.
+     * <p>
+     * The default implementation reads the record headers with
+     * {@link #getHeader(BatchPolicy, Key[])}.
+     *
+     * @param policy batch configuration parameters, pass in null for defaults
+     * @param keys   array of unique record identifiers
+     * @return array key/existence status pairs
+     * @throws AerospikeException if command fails
+     */
+    default boolean[] exists(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        Record[] records = getHeader(policy, keys);
+        boolean[] existsArray = new boolean[records.length];
+        for (int i = 0; i < records.length; i++) {
+            existsArray[i] = records[i] != null;
+        }
+        return existsArray;
+    }
+
+    /**
+     * Read record generation and expiration only for specified key. Bins are not read.
+     * The policy can be used to specify timeouts.
+     * <p>
+     * The default implementation reads the entire record with
+     * {@link #get(Policy, Key)} and drops its bins. The reader injected by the
+     * Aerospike inbound connector reads only the record header.
+     *
+     * @param policy generic configuration parameters, pass in null for defaults
+     * @param key    unique record identifier
+     * @return if found, return record instance.  If not found, return null.
+     * @throws AerospikeException if read fails
+     */
+    default Record getHeader(Policy policy, Key key) throws AerospikeException {
+        return headerOf(get(policy, key));
+    }
+
+    /**
+     * Read multiple record header data for specified keys in one batch call.
+     * The returned records are in positional order with the original key array order.
+     * If a key is not found, the positional record will be null.
+     * <p>
+     * The default implementation reads the entire records with
+     * {@link #get(BatchPolicy, Key[])} and drops their bins. The reader
+     * injected by the Aerospike inbound connector reads only the record
+     * headers.
+     *
+     * @param policy batch configuration parameters, pass in null for defaults
+     * @param keys   array of unique record identifiers
+     * @return array of records
+     * @throws AerospikeException if read fails
+     */
+    default Record[] getHeader(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        Record[] records = get(policy, keys);
+        for (int i = 0; i < records.length; i++) {
+            records[i] = headerOf(records[i]);
+        }
+        return records;
+    }
+
+    /**
+     * Perform multiple read operations on a single record on the server, for
+     * example the list size or map entry reads of
+     * {@link com.aerospike.client.cdt.ListOperation} and
+     * {@link com.aerospike.client.cdt.MapOperation}, so that only the results
+     * are sent back instead of the entire bins.
+     * <p>
+     * Only read operations are allowed.
+     * The default implementation performs the operations with a batch read of
+     * a single {@link BatchRead}.
+     *
+     * @param policy     generic configuration parameters, pass in null for defaults
+     * @param key        unique record identifier
+     * @param operations database read operations
+     * @return if found, return record instance with the results of the
+     * operations.  If not found, return null.
+     * @throws AerospikeException if an operation is not a read operation or if
+     *                            the read fails
+     */
+    default Record operate(Policy policy, Key key, Operation... operations) throws AerospikeException {
+        requireReadOperations(operations);
+        BatchRead record = new BatchRead(key, operations);
+        get(policy == null ? null : new BatchPolicy(policy), Collections.singletonList(record));
+        return record.record;
+    }
+
+    /**
+     * Perform read operations on multiple records for specified keys in one
+     * batch call. The same operations are performed on every record.
+     * The returned records are in positional order with the original key array order.
+     * If a key is not found, the positional record will be null.
+     * <p>
+     * Only read operations are allowed.
+     * The default implementation performs the operations with
+     * {@link #get(BatchPolicy, List)}.
+     *
+     * @param policy     batch configuration parameters, pass in null for defaults
+     * @param keys       array of unique record identifiers
+     * @param operations database read operations
+     * @return array of records
+     * @throws AerospikeException if an operation is not a read operation or if
+     *                            the read fails
+     */
+    default Record[] operate(BatchPolicy policy, Key[] keys, Operation... operations) throws AerospikeException {
+        requireReadOperations(operations);
+        List<BatchRead> records = new ArrayList<>(keys.length);
+        for (Key key : keys) {
+            records.add(new BatchRead(key, operations));
+        }
+        get(policy, records);
+
+        Record[] result = new Record[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = records.get(i).record;
+        }
+        return result;
+    }
+
+    /**
+     * Reject write operations passed to a reader.
+     *
+     * @param operations the operations to check.
+     * @throws AerospikeException if an operation is a write operation.
+     */
+    private static void requireReadOperations(Operation[] operations) throws AerospikeException {
+        for (Operation operation : operations) {
+            if (operation.type.isWrite) {
+                throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                        "Write operation " + operation.type + " is not allowed in a read");
+            }
+        }
+    }
+
+    /**
+     * Strip the bins from a record.
+     *
+     * @param record the record, may be null.
+     * @return a record with only the generation and expiration of the given
+     * record, or null if the given record is null.
+     */
+    private static Record headerOf(Record record) {
+        return record == null ? null :
+                new Record(null, record.generation, record.expiration);
+    }
 }
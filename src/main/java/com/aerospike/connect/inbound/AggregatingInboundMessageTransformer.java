@@ -0,0 +1,522 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.connect.inbound.operation.AerospikeCompositeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeOperateOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSingleRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Base class for transformers of counter workloads, which accumulates numeric
+ * increments in memory and writes them as one
+ * {@link AerospikeOperateOperation} per key when the window is flushed.
+ *
+ * <p>
+ * Subclasses implement {@link #aggregate} and record the
+ * increments of a message with {@link Increments} instead of returning
+ * {@link Operation#add(Bin)} or {@link MapOperation#increment} operations.
+ * Increments to the same key and bin, or the same key, bin and map key, are
+ * summed. The window is full once
+ * </p>
+ * <ul>
+ *   <li> the window duration has elapsed since the first pending
+ *   increment.</li>
+ *   <li> it holds the maximum number of messages.</li>
+ *   <li> the number of pending counters reaches the maximum, which bounds
+ *   the memory held.</li>
+ * </ul>
+ *
+ * <p>
+ * A full window is flushed by the next message, and the pending increments
+ * of a key are flushed by the next message whose operation writes to that
+ * key. The flushed operations are returned before the operation of the
+ * flushing message as an {@link AerospikeCompositeRecordOperation}, so the
+ * unsafe composite record operations have to be enabled. The other messages
+ * of the window return the operation of {@link #aggregate}
+ * which is an {@link AerospikeSkipRecordOperation} when the message only had
+ * increments. The increments of a message are thus written after its own
+ * operation and before any later operation on the same key.
+ * </p>
+ *
+ * <p>
+ * It is a {@link BatchInboundMessageTransformer}: at the end of every batch
+ * the pending increments are flushed with the operation of the last message,
+ * so a window never outlives the batch and nothing is pending when the
+ * connector commits the batch. A batch which fails leaves the window as it
+ * was before the batch, so the retried batch is not counted twice, and the
+ * increments of a message whose {@link #aggregate} throws are dropped.
+ * Transformed one message at a time with
+ * {@link #transform(Object)}, a transformer cannot return operations outside
+ * of a transform, the window is only checked when a message arrives and the
+ * increments pending when the message flow stops are written by the next
+ * message, or lost on shutdown after their messages have been acknowledged.
+ * The increments of a message whose operation cannot be combined, like an
+ * {@link com.aerospike.connect.inbound.operation.AerospikeBatchRecordOperation},
+ * stay pending.
+ * </p>
+ *
+ * <p>
+ * It is thread safe, annotate the subclass with
+ * <a href="https://docs.oracle.com/javaee/7/api/javax/inject/Singleton.html">@Singleton</a>
+ * so all messages share the window.
+ * </p>
+ *
+ * @param <T> incoming message type
+ */
+public abstract class AggregatingInboundMessageTransformer<T>
+        implements BatchInboundMessageTransformer<T> {
+    /**
+     * Maximum time between the first pending increment and the flush.
+     */
+    private final long windowNanos;
+
+    /**
+     * Maximum number of messages in a window.
+     */
+    private final int maxMessages;
+
+    /**
+     * Maximum number of pending counters in a window.
+     */
+    private final int maxCounters;
+
+    /**
+     * Write policy of the flushed operations, null for the default.
+     */
+    @Nullable
+    private final WritePolicy writePolicy;
+
+    /**
+     * Map policy of the flushed map increments.
+     */
+    private final MapPolicy mapPolicy;
+
+    /**
+     * Error codes to ignore for the flushed operations.
+     */
+    private final Set<Integer> ignoreErrorCodes;
+
+    /**
+     * Pending counters of the window by key, guarded by this.
+     */
+    private Map<Key, Map<Path, Counter>> counters = new LinkedHashMap<>();
+
+    /**
+     * Counters of the message being aggregated, merged into the window after
+     * deciding whether it flushes the window, guarded by this.
+     */
+    private Map<Key, Map<Path, Counter>> messageCounters = new LinkedHashMap<>();
+
+    private final Increments increments = new Increments();
+
+    private int messages;
+
+    private int counterCount;
+
+    private long windowStart;
+
+    /**
+     * Create a transformer flushing with the default write policy.
+     *
+     * @param window      maximum time to hold an increment.
+     * @param maxMessages maximum number of messages in a window.
+     * @param maxCounters maximum number of distinct counters held in memory.
+     */
+    protected AggregatingInboundMessageTransformer(Duration window,
+                                                   int maxMessages,
+                                                   int maxCounters) {
+        this(window, maxMessages, maxCounters, null, new MapPolicy(),
+                Collections.emptySet());
+    }
+
+    /**
+     * Create a transformer.
+     *
+     * @param window           maximum time to hold an increment.
+     * @param maxMessages      maximum number of messages in a window.
+     * @param maxCounters      maximum number of distinct counters held in
+     *                         memory.
+     * @param writePolicy      write policy of the flushed operations, null
+     *                         for the default.
+     * @param mapPolicy        map policy of the flushed map increments.
+     * @param ignoreErrorCodes error codes to ignore for the flushed
+     *                         operations.
+     */
+    protected AggregatingInboundMessageTransformer(Duration window,
+                                                   int maxMessages,
+                                                   int maxCounters,
+                                                   @Nullable WritePolicy writePolicy,
+                                                   MapPolicy mapPolicy,
+                                                   Set<Integer> ignoreErrorCodes) {
+        if (window.isNegative() || maxMessages < 1 || maxCounters < 1) {
+            throw new IllegalArgumentException(
+                    "window must not be negative, maxMessages and " +
+                            "maxCounters must be positive");
+        }
+
+        this.windowNanos = window.toNanos();
+        this.maxMessages = maxMessages;
+        this.maxCounters = maxCounters;
+        this.writePolicy = writePolicy;
+        this.mapPolicy = Objects.requireNonNull(mapPolicy);
+        this.ignoreErrorCodes = Objects.requireNonNull(ignoreErrorCodes);
+    }
+
+    /**
+     * Record the increments of a message.
+     *
+     * <p>
+     * It is called while holding the lock of the transformer, it should not
+     * block.
+     * </p>
+     *
+     * @param input      Inbound message from the external system.
+     * @param increments the increments of the current window.
+     * @return the operation to apply for the parts of the message which are
+     * not increments, {@link AerospikeSkipRecordOperation} if there are none.
+     */
+    protected abstract AerospikeRecordOperation aggregate(T input,
+                                                          Increments increments);
+
+    @Override
+    public synchronized AerospikeRecordOperation transform(T input) {
+        AerospikeRecordOperation operation;
+        try {
+            operation = aggregate(input, increments);
+        } catch (RuntimeException | Error e) {
+            // Drop the increments the failed message recorded so far.
+            messageCounters = new LinkedHashMap<>();
+            throw e;
+        }
+        List<AerospikeSingleRecordOperation> operations =
+                operationsOf(operation);
+        if (counterCount == 0 || operations == null ||
+                !(isWindowFull() || writesPendingKey(operations))) {
+            mergeMessageCounters();
+            return operation;
+        }
+
+        List<AerospikeSingleRecordOperation> combined = drain();
+        combined.addAll(operations);
+        mergeMessageCounters();
+        return combine(combined);
+    }
+
+    @Override
+    public synchronized List<AerospikeRecordOperation> transformBatch(
+            List<T> inputs) {
+        // The connector retries a failed batch, so a failure restores the
+        // window as it was before the batch, including the counters drained
+        // into operations which are never written.
+        Map<Key, Map<Path, Counter>> savedCounters = copyOf(counters);
+        int savedCounterCount = counterCount;
+        int savedMessages = messages;
+        long savedWindowStart = windowStart;
+
+        List<AerospikeRecordOperation> operations =
+                new ArrayList<>(inputs.size());
+        try {
+            for (T input : inputs) {
+                operations.add(transform(input));
+            }
+        } catch (RuntimeException | Error e) {
+            counters = savedCounters;
+            counterCount = savedCounterCount;
+            messages = savedMessages;
+            windowStart = savedWindowStart;
+            throw e;
+        }
+
+        int last = operations.size() - 1;
+        if (last >= 0 && counterCount > 0) {
+            List<AerospikeSingleRecordOperation> combined =
+                    operationsOf(operations.get(last));
+            if (combined != null) {
+                combined.addAll(drain());
+                operations.set(last, combine(combined));
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Get the number of pending counters.
+     *
+     * @return the number of distinct counters waiting for the flush.
+     */
+    public synchronized int getPendingCount() {
+        return counterCount;
+    }
+
+    private boolean isWindowFull() {
+        return messages >= maxMessages || counterCount >= maxCounters ||
+                System.nanoTime() - windowStart >= windowNanos;
+    }
+
+    /**
+     * Get the record operations of an operation to combine with flushed
+     * operations.
+     *
+     * @return a new list of the record operations, null if the operation
+     * cannot be combined.
+     */
+    @Nullable
+    private static List<AerospikeSingleRecordOperation> operationsOf(
+            AerospikeRecordOperation operation) {
+        List<AerospikeSingleRecordOperation> operations = new ArrayList<>();
+        if (operation instanceof AerospikeSingleRecordOperation) {
+            operations.add((AerospikeSingleRecordOperation) operation);
+        } else if (operation instanceof AerospikeCompositeRecordOperation) {
+            operations.addAll(
+                    ((AerospikeCompositeRecordOperation) operation).getOperations());
+        } else if (!(operation instanceof AerospikeSkipRecordOperation)) {
+            return null;
+        }
+        return operations;
+    }
+
+    private static AerospikeRecordOperation combine(
+            List<AerospikeSingleRecordOperation> operations) {
+        if (operations.isEmpty()) {
+            return new AerospikeSkipRecordOperation();
+        }
+        return operations.size() == 1 ? operations.get(0) :
+                new AerospikeCompositeRecordOperation(operations);
+    }
+
+    private boolean writesPendingKey(
+            List<AerospikeSingleRecordOperation> operations) {
+        for (AerospikeSingleRecordOperation operation : operations) {
+            if (counters.containsKey(operation.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add the counters of the current message to the window.
+     */
+    private void mergeMessageCounters() {
+        if (messageCounters.isEmpty()) {
+            if (counterCount > 0) {
+                messages++;
+            }
+            return;
+        }
+
+        if (counterCount == 0) {
+            // The window starts with the first increment.
+            windowStart = System.nanoTime();
+            messages = 0;
+        }
+        messages++;
+
+        for (Map.Entry<Key, Map<Path, Counter>> entry :
+                messageCounters.entrySet()) {
+            Map<Path, Counter> keyCounters = counters.computeIfAbsent(
+                    entry.getKey(), k -> new LinkedHashMap<>());
+            for (Map.Entry<Path, Counter> counter :
+                    entry.getValue().entrySet()) {
+                Counter windowCounter = keyCounters.get(counter.getKey());
+                if (windowCounter == null) {
+                    keyCounters.put(counter.getKey(), counter.getValue());
+                    counterCount++;
+                } else {
+                    windowCounter.longValue += counter.getValue().longValue;
+                    windowCounter.doubleValue += counter.getValue().doubleValue;
+                }
+            }
+        }
+        messageCounters = new LinkedHashMap<>();
+    }
+
+    private List<AerospikeSingleRecordOperation> drain() {
+        List<AerospikeSingleRecordOperation> operations =
+                new ArrayList<>(counters.size());
+        for (Map.Entry<Key, Map<Path, Counter>> entry : counters.entrySet()) {
+            List<Operation> ops = new ArrayList<>(entry.getValue().size());
+            for (Map.Entry<Path, Counter> counter :
+                    entry.getValue().entrySet()) {
+                ops.add(counter.getKey().toOperation(counter.getValue(),
+                        mapPolicy));
+            }
+
+            operations.add(new AerospikeOperateOperation(entry.getKey(),
+                    writePolicy, ops, ignoreErrorCodes));
+        }
+
+        counters = new LinkedHashMap<>();
+        counterCount = 0;
+        messages = 0;
+        return operations;
+    }
+
+    private static Map<Key, Map<Path, Counter>> copyOf(
+            Map<Key, Map<Path, Counter>> counters) {
+        Map<Key, Map<Path, Counter>> copy = new LinkedHashMap<>();
+        for (Map.Entry<Key, Map<Path, Counter>> entry : counters.entrySet()) {
+            Map<Path, Counter> keyCounters = new LinkedHashMap<>();
+            for (Map.Entry<Path, Counter> counter :
+                    entry.getValue().entrySet()) {
+                Counter value = new Counter();
+                value.longValue = counter.getValue().longValue;
+                value.doubleValue = counter.getValue().doubleValue;
+                keyCounters.put(counter.getKey(), value);
+            }
+            copy.put(entry.getKey(), keyCounters);
+        }
+        return copy;
+    }
+
+    private Counter counter(Key key, Path path) {
+        return messageCounters.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                .computeIfAbsent(path, p -> new Counter());
+    }
+
+    /**
+     * Records the increments of the current window.
+     *
+     * <p>
+     * Integer and double increments of the same counter are kept apart since
+     * the database does not add a double to an integer.
+     * </p>
+     */
+    public final class Increments {
+        private Increments() {
+        }
+
+        /**
+         * Add to an integer bin.
+         *
+         * @param key     the key of the record.
+         * @param binName the name of the bin.
+         * @param delta   the value to add.
+         */
+        public void increment(Key key, String binName, long delta) {
+            counter(key, new Path(binName, null, false)).longValue += delta;
+        }
+
+        /**
+         * Add to a double bin.
+         *
+         * @param key     the key of the record.
+         * @param binName the name of the bin.
+         * @param delta   the value to add.
+         */
+        public void increment(Key key, String binName, double delta) {
+            counter(key, new Path(binName, null, true)).doubleValue += delta;
+        }
+
+        /**
+         * Add to an integer value of a map bin.
+         *
+         * @param key     the key of the record.
+         * @param binName the name of the map bin.
+         * @param mapKey  the key of the value in the map.
+         * @param delta   the value to add.
+         */
+        public void increment(Key key, String binName, Value mapKey,
+                              long delta) {
+            counter(key, new Path(binName, mapKey, false)).longValue += delta;
+        }
+
+        /**
+         * Add to a double value of a map bin.
+         *
+         * @param key     the key of the record.
+         * @param binName the name of the map bin.
+         * @param mapKey  the key of the value in the map.
+         * @param delta   the value to add.
+         */
+        public void increment(Key key, String binName, Value mapKey,
+                              double delta) {
+            counter(key, new Path(binName, mapKey, true)).doubleValue += delta;
+        }
+    }
+
+    /**
+     * The bin, and map key in the bin, of a counter.
+     */
+    private static final class Path {
+        private final String binName;
+
+        @Nullable
+        private final Value mapKey;
+
+        private final boolean isDouble;
+
+        private Path(String binName, @Nullable Value mapKey,
+                     boolean isDouble) {
+            this.binName = Objects.requireNonNull(binName);
+            this.mapKey = mapKey;
+            this.isDouble = isDouble;
+        }
+
+        private Operation toOperation(Counter counter, MapPolicy mapPolicy) {
+            Value delta = isDouble ? Value.get(counter.doubleValue) :
+                    Value.get(counter.longValue);
+            return mapKey == null ? Operation.add(new Bin(binName, delta)) :
+                    MapOperation.increment(mapPolicy, binName, mapKey, delta);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Path)) {
+                return false;
+            }
+            Path path = (Path) o;
+            return isDouble == path.isDouble && binName.equals(path.binName) &&
+                    Objects.equals(mapKey, path.mapKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(binName, mapKey, isDouble);
+        }
+    }
+
+    private static final class Counter {
+        private long longValue;
+
+        private double doubleValue;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking reader to read records from the Aerospike database.
+ *
+ * <p>
+ * Every method returns immediately with a future that is completed when the
+ * read finishes, so a single thread can keep many reads in flight. The reader
+ * injected by the Aerospike inbound connector is backed by the event loops of
+ * the Aerospike client, its futures are completed on an event loop thread and
+ * dependent stages attached with the non-async methods of
+ * {@link CompletableFuture} must not block.
+ * </p>
+ *
+ * <p>
+ * Failed reads complete the future exceptionally with an
+ * {@link AerospikeException} itself, so dependent stages like
+ * {@link CompletableFuture#exceptionally} receive it unwrapped. As for any
+ * future, {@link CompletableFuture#join()} throws it as the cause of a
+ * {@link java.util.concurrent.CompletionException} and
+ * {@link CompletableFuture#get()} as the cause of an
+ * {@link java.util.concurrent.ExecutionException}.
+ * </p>
+ */
+public interface AsyncAerospikeReader {
+    /**
+     * Asynchronously read entire record for specified key.
+     * The policy can be used to specify timeouts.
+     *
+     * @param policy generic configuration parameters, pass in null for defaults
+     * @param key    unique record identifier
+     * @return future completed with the record if found, or with null if not
+     * found.
+     * @see AerospikeReader#get(Policy, Key)
+     */
+    CompletableFuture<Record> getAsync(Policy policy, Key key);
+
+    /**
+     * Asynchronously read record header and bins for specified key.
+     * The policy can be used to specify timeouts.
+     *
+     * @param policy   generic configuration parameters, pass in null for defaults
+     * @param key      unique record identifier
+     * @param binNames bins to retrieve
+     * @return future completed with the record if found, or with null if not
+     * found.
+     * @see AerospikeReader#get(Policy, Key, String...)
+     */
+    CompletableFuture<Record> getAsync(Policy policy, Key key, String... binNames);
+
+    /**
+     * Asynchronously read multiple records for specified batch keys in one
+     * batch call. This method allows different namespaces/bins to be requested
+     * for each key in the batch.
+     * If the BatchRead key field is not found, the corresponding record field
+     * will be null.
+     *
+     * @param policy  batch configuration parameters, pass in null for defaults
+     * @param records list of unique record identifiers and the bins to retrieve.
+     *                The returned records are located in the same list.
+     * @return future completed with the given list once the records are
+     * populated.
+     * @see AerospikeReader#get(BatchPolicy, List)
+     */
+    CompletableFuture<List<BatchRead>> getAsync(BatchPolicy policy, List<BatchRead> records);
+
+    /**
+     * Asynchronously read multiple records for specified keys in one batch
+     * call. The returned records are in positional order with the original
+     * key array order. If a key is not found, the positional record will be
+     * null.
+     *
+     * @param policy batch configuration parameters, pass in null for defaults
+     * @param keys   array of unique record identifiers
+     * @return future completed with the array of records.
+     * @see AerospikeReader#get(BatchPolicy, Key[])
+     */
+    CompletableFuture<Record[]> getAsync(BatchPolicy policy, Key[] keys);
+
+    /**
+     * Asynchronously read multiple record headers and bins for specified keys
+     * in one batch call. The returned records are in positional order with the
+     * original key array order. If a key is not found, the positional record
+     * will be null.
+     *
+     * @param policy   batch configuration parameters, pass in null for defaults
+     * @param keys     array of unique record identifiers
+     * @param binNames array of bins to retrieve
+     * @return future completed with the array of records.
+     * @see AerospikeReader#get(BatchPolicy, Key[], String...)
+     */
+    CompletableFuture<Record[]> getAsync(BatchPolicy policy, Key[] keys, String... binNames);
+
+    /**
+     * Asynchronously determine if a record key exists.
+     *
+     * @param policy generic configuration parameters, pass in null for defaults
+     * @param key    unique record identifier
+     * @return future completed with whether the record exists or not.
+     * @see AerospikeReader#exists(Policy, Key)
+     */
+    CompletableFuture<Boolean> existsAsync(Policy policy, Key key);
+
+    /**
+     * Asynchronously check if multiple record keys exist in one batch call.
+     *
+     * @param policy batch configuration parameters, pass in null for defaults
+     * @param keys   array of unique record identifiers
+     * @return future completed with the existence status of the keys in
+     * positional order.
+     * @see AerospikeReader#exists(BatchPolicy, Key[])
+     */
+    CompletableFuture<boolean[]> existsAsync(BatchPolicy policy, Key[] keys);
+
+    /**
+     * Asynchronously read record generation and expiration only for specified
+     * key. Bins are not read.
+     *
+     * @param policy generic configuration parameters, pass in null for defaults
+     * @param key    unique record identifier
+     * @return future completed with the record header if found, or with null
+     * if not found.
+     * @see AerospikeReader#getHeader(Policy, Key)
+     */
+    CompletableFuture<Record> getHeaderAsync(Policy policy, Key key);
+
+    /**
+     * Asynchronously read multiple record header data for specified keys in
+     * one batch call.
+     *
+     * @param policy batch configuration parameters, pass in null for defaults
+     * @param keys   array of unique record identifiers
+     * @return future completed with the array of record headers.
+     * @see AerospikeReader#getHeader(BatchPolicy, Key[])
+     */
+    CompletableFuture<Record[]> getHeaderAsync(BatchPolicy policy, Key[] keys);
+
+    /**
+     * Asynchronously perform multiple read operations on a single record on
+     * the server. Only read operations are allowed.
+     *
+     * @param policy     generic configuration parameters, pass in null for defaults
+     * @param key        unique record identifier
+     * @param operations database read operations
+     * @return future completed with the record holding the results of the
+     * operations if found, or with null if not found.
+     * @see AerospikeReader#operate(Policy, Key, Operation...)
+     */
+    CompletableFuture<Record> operateAsync(Policy policy, Key key, Operation... operations);
+
+    /**
+     * Asynchronously perform read operations on multiple records for
+     * specified keys in one batch call. Only read operations are allowed.
+     *
+     * @param policy     batch configuration parameters, pass in null for defaults
+     * @param keys       array of unique record identifiers
+     * @param operations database read operations
+     * @return future completed with the array of records.
+     * @see AerospikeReader#operate(BatchPolicy, Key[], Operation...)
+     */
+    CompletableFuture<Record[]> operateAsync(BatchPolicy policy, Key[] keys, Operation... operations);
+}
@@ -0,0 +1,97 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Generate an {@link AerospikeRecordOperation} from an incoming message
+ * without blocking the calling thread.
+ *
+ * <p>
+ * Transformers that read from the Aerospike database before deciding what to
+ * write should use an {@link AsyncAerospikeReader} and return a stage
+ * completed by the read callback, so the connector thread can move on to the
+ * next message while the read is in flight.
+ * </p>
+ *
+ * <p>
+ * Ordering guarantees given by the Aerospike inbound connector:
+ * </p>
+ * <ul>
+ *   <li> {@link #transformAsync(Object)} is invoked in the order the messages
+ *   are received from the external system. Invocations can overlap, a later
+ *   message may be submitted before the stage of an earlier message
+ *   completes.
+ *   </li>
+ *   <li> Operations of messages with the same message key, or the same
+ *   Aerospike record key when the message has no key, are applied to the
+ *   Aerospike database in the order the messages were received, irrespective
+ *   of the order in which their stages complete.
+ *   </li>
+ *   <li> No order is guaranteed between messages with different keys.
+ *   </li>
+ *   <li> Offsets of a message are committed only after its operation, and the
+ *   operations of all messages received before it, are applied.
+ *   </li>
+ * </ul>
+ *
+ * <p>
+ * A read issued in {@link #transformAsync(Object)} can therefore observe a
+ * record before the writes of earlier, still pending, messages with the same
+ * key are applied. Read-modify-write transformers should express the
+ * modification as server side operations rather than computing the new value
+ * from the read.
+ * </p>
+ *
+ * @param <T> incoming message type
+ */
+public interface AsyncInboundMessageTransformer<T> extends InboundMessageTransformer<T> {
+    /**
+     * Asynchronously transforms generic input message/record into
+     * {@link AerospikeRecordOperation} to apply on the Aerospike database.
+     *
+     * @param input Inbound message from the external system.
+     * @return a stage completed with the operation to apply, or completed
+     * exceptionally if the message could not be transformed.
+     */
+    CompletionStage<AerospikeRecordOperation> transformAsync(T input);
+
+    /**
+     * Transforms a message by waiting for the stage returned by
+     * {@link #transformAsync(Object)}.
+     *
+     * @param input Inbound message from the external system.
+     * @return the operation to apply.
+     */
+    @Override
+    default AerospikeRecordOperation transform(T input) {
+        try {
+            return transformAsync(input).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
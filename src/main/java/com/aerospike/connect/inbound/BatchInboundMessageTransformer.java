@@ -0,0 +1,74 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generate {@link AerospikeRecordOperation}s from a batch of incoming messages.
+ *
+ * <p>
+ * The Aerospike inbound connector hands a batch transformer all the messages
+ * received in a single poll of the external system, so work like reading
+ * existing records can be done once for the whole batch with
+ * {@link AerospikeReader#get(com.aerospike.client.policy.BatchPolicy, com.aerospike.client.Key[])}
+ * instead of once per message.
+ * </p>
+ *
+ * <p>
+ * The same threading rules as {@link InboundMessageTransformer} apply. Use
+ * {@link InboundMessageTransformerBatchAdapter} to run an existing
+ * {@link InboundMessageTransformer} wherever a batch transformer is expected.
+ * </p>
+ *
+ * @param <T> incoming message type
+ */
+public interface BatchInboundMessageTransformer<T> extends InboundMessageTransformer<T> {
+    /**
+     * Transforms a batch of generic input messages/records into
+     * {@link AerospikeRecordOperation}s to apply on the Aerospike database.
+     *
+     * <p>
+     * The returned list must have the same size as the input list, the
+     * operation at index <code>i</code> is the operation for the input at index
+     * <code>i</code>. Use
+     * {@link com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation}
+     * for inputs that should not be written.
+     * </p>
+     *
+     * @param inputs Inbound messages from the external system in the order
+     *               they were received.
+     * @return the operations to apply, in the same order as the inputs.
+     */
+    List<AerospikeRecordOperation> transformBatch(List<T> inputs);
+
+    /**
+     * Transforms a single message by running it as a batch of one.
+     *
+     * @param input Inbound message from the external system.
+     * @return the operation to apply.
+     */
+    @Override
+    default AerospikeRecordOperation transform(T input) {
+        return transformBatch(Collections.singletonList(input)).get(0);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.model.FieldSchema;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.model.InboundMessageBatch;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import java.util.List;
+
+/**
+ * Generate {@link AerospikeRecordOperation}s from a batch of incoming messages
+ * presented as columns.
+ *
+ * <p>
+ * The transformer declares the fields it reads with {@link #getSchema()}.
+ * A connector which builds {@link InboundMessageBatch}es hands them to
+ * {@link #transformColumns(InboundMessageBatch)} directly, otherwise the
+ * messages of a batch are converted to columns first.
+ * </p>
+ *
+ * @param <K> type of message key.
+ * @param <M> type of message.
+ */
+public interface ColumnarInboundMessageTransformer<K, M>
+        extends BatchInboundMessageTransformer<InboundMessage<K, M>> {
+    /**
+     * Get the fields the transformer reads and their types.
+     *
+     * @return the schema of the columns.
+     */
+    FieldSchema getSchema();
+
+    /**
+     * Transforms a batch of messages into {@link AerospikeRecordOperation}s
+     * to apply on the Aerospike database.
+     *
+     * @param batch Inbound messages from the external system as columns of
+     *              the {@link #getSchema() schema}.
+     * @return the operations to apply, the operation at index
+     * <code>i</code> is the operation for row <code>i</code>.
+     */
+    List<AerospikeRecordOperation> transformColumns(
+            InboundMessageBatch<K, M> batch);
+
+    /**
+     * Transforms a batch of messages by converting them to columns.
+     *
+     * @param inputs Inbound messages from the external system in the order
+     *               they were received.
+     * @return the operations to apply, in the same order as the inputs.
+     */
+    @Override
+    default List<AerospikeRecordOperation> transformBatch(
+            List<InboundMessage<K, M>> inputs) {
+        return transformColumns(InboundMessageBatch.of(getSchema(), inputs));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Runs a single message {@link InboundMessageTransformer} as a
+ * {@link BatchInboundMessageTransformer} by transforming the messages of a
+ * batch one at a time.
+ *
+ * @param <T> incoming message type
+ */
+public class InboundMessageTransformerBatchAdapter<T> implements BatchInboundMessageTransformer<T> {
+    /**
+     * The wrapped single message transformer.
+     */
+    private final InboundMessageTransformer<T> transformer;
+
+    /**
+     * Adapt a single message transformer.
+     *
+     * @param transformer the transformer to invoke for every message of a
+     *                    batch.
+     */
+    public InboundMessageTransformerBatchAdapter(InboundMessageTransformer<T> transformer) {
+        this.transformer = Objects.requireNonNull(transformer, "transformer");
+    }
+
+    @Override
+    public List<AerospikeRecordOperation> transformBatch(List<T> inputs) {
+        List<AerospikeRecordOperation> operations = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            operations.add(transformer.transform(input));
+        }
+        return operations;
+    }
+
+    @Override
+    public AerospikeRecordOperation transform(T input) {
+        return transformer.transform(input);
+    }
+
+    /**
+     * Get the wrapped single message transformer.
+     *
+     * @return the wrapped transformer.
+     */
+    public InboundMessageTransformer<T> getTransformer() {
+        return transformer;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.model.InboundMessageTransformerConfig;
+import com.aerospike.connect.inbound.model.TransformerExecutionMode;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Invokes an {@link InboundMessageTransformer} on the threads of a
+ * {@link TransformerExecutionMode}, with at most a maximum number of
+ * transforms in flight.
+ *
+ * <p>
+ * {@link #submit(InboundMessageTransformer, Object)} blocks the caller while
+ * the maximum number of transforms are in flight, which pushes back on the
+ * consumer of the external system instead of queueing messages without
+ * bound.
+ * </p>
+ *
+ * <p>
+ * {@link TransformerExecutionMode#VIRTUAL} needs Java 21 or later, on older
+ * runtimes the transforms run on platform threads, see {@link #isVirtual()}.
+ * </p>
+ */
+public class InboundMessageTransformerExecutor implements AutoCloseable {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * The threads running the transforms.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Whether the transforms run on virtual threads.
+     */
+    private final boolean virtual;
+
+    /**
+     * Permits for the transforms in flight, null if not limited.
+     */
+    @Nullable
+    private final Semaphore permits;
+
+    /**
+     * Create an executor.
+     *
+     * @param executionMode  the threads to invoke the transformer on.
+     * @param maxConcurrency maximum number of transforms in flight. Zero or
+     *                       negative implies the number of available
+     *                       processors for platform threads and no limit for
+     *                       virtual threads.
+     */
+    public InboundMessageTransformerExecutor(
+            TransformerExecutionMode executionMode, int maxConcurrency) {
+        ExecutorService virtualExecutor =
+                executionMode == TransformerExecutionMode.VIRTUAL ?
+                        newVirtualThreadPerTaskExecutor() : null;
+
+        if (virtualExecutor != null) {
+            executor = virtualExecutor;
+            virtual = true;
+            permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        } else {
+            int threads = maxConcurrency > 0 ? maxConcurrency :
+                    Runtime.getRuntime().availableProcessors();
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable,
+                        "inbound-transformer-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            virtual = false;
+            permits = new Semaphore(threads);
+        }
+    }
+
+    /**
+     * Create an executor for the execution mode and maximum concurrency of a
+     * transformer config.
+     *
+     * @param config the transformer config.
+     * @return a new executor.
+     */
+    public static InboundMessageTransformerExecutor forConfig(
+            InboundMessageTransformerConfig config) {
+        TransformerExecutionMode executionMode = config.getExecutionMode();
+        return new InboundMessageTransformerExecutor(executionMode == null ?
+                TransformerExecutionMode.PLATFORM : executionMode,
+                config.getMaxConcurrency());
+    }
+
+    /**
+     * Transform a message, waiting for a permit if the maximum number of
+     * transforms are in flight.
+     *
+     * @param transformer the transformer to invoke.
+     * @param input       Inbound message from the external system.
+     * @param <T>         incoming message type
+     * @return the operation to apply, completed exceptionally if the
+     * transformer failed or the caller was interrupted while waiting.
+     */
+    public <T> CompletableFuture<AerospikeRecordOperation> submit(
+            InboundMessageTransformer<T> transformer, T input) {
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                CompletableFuture<AerospikeRecordOperation> future =
+                        new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+            }
+        }
+
+        try {
+            CompletableFuture<AerospikeRecordOperation> future =
+                    CompletableFuture.supplyAsync(
+                            () -> transformer.transform(input), executor);
+            if (permits != null) {
+                future.whenComplete((operation, error) -> permits.release());
+            }
+            return future;
+        } catch (RejectedExecutionException e) {
+            if (permits != null) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the transforms run on virtual threads.
+     *
+     * @return true if virtual threads were requested and are supported by the
+     * runtime.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Stop accepting transforms, the transforms in flight complete.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Create a virtual thread per task executor if the runtime supports it.
+     */
+    @Nullable
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        MethodHandle factory;
+        try {
+            factory = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+
+        try {
+            return (ExecutorService) factory.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException(
+                    "Cannot create virtual thread executor", e);
+        }
+    }
+}
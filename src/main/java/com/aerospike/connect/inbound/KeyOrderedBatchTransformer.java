@@ -0,0 +1,263 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs a single message {@link InboundMessageTransformer} on the messages of
+ * a batch in parallel while keeping the order of the messages with the same
+ * key.
+ *
+ * <p>
+ * Every message is assigned to one of a fixed number of lanes by the hash of
+ * its key, the messages of a lane are transformed one at a time in the order
+ * they were received and the lanes run in parallel. Messages without a key
+ * all go to the same lane. The operations are returned in the order of the
+ * inputs, so the connector commits offsets just like for a serial
+ * transformer. {@link #transformBatch(List)} returns once the whole batch is
+ * transformed, so the order of a key is kept across batches too.
+ * </p>
+ *
+ * <p>
+ * The wrapped transformer is invoked from multiple threads and has to be
+ * thread safe. One lane runs on the calling thread, the others are submitted
+ * to an executor for the duration of the batch. By default it is a cached
+ * pool of daemon threads shared by all the instances, so an instance holds
+ * no threads and needs no closing, even if the connector creates one for
+ * every message.
+ * </p>
+ *
+ * @param <T> incoming message type
+ */
+public class KeyOrderedBatchTransformer<T>
+        implements BatchInboundMessageTransformer<T> {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * The wrapped single message transformer.
+     */
+    private final InboundMessageTransformer<T> transformer;
+
+    /**
+     * Get the key ordering a message, null if it has none.
+     */
+    private final Function<? super T, ?> keyFunction;
+
+    /**
+     * The number of lanes except the last, which runs on the calling thread.
+     */
+    private final int lanes;
+
+    /**
+     * Runs the lanes except the last, null for the shared executor.
+     */
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Create a transformer with the given number of lanes, running on the
+     * shared executor.
+     *
+     * @param transformer the thread safe transformer to invoke for every
+     *                    message.
+     * @param keyFunction returns the key whose order is kept for a message,
+     *                    or null if it has none.
+     * @param laneCount   the number of messages transformed in parallel.
+     */
+    public KeyOrderedBatchTransformer(InboundMessageTransformer<T> transformer,
+                                      Function<? super T, ?> keyFunction,
+                                      int laneCount) {
+        this(transformer, keyFunction, laneCount, null);
+    }
+
+    /**
+     * Create a transformer with the given number of lanes.
+     *
+     * @param transformer the thread safe transformer to invoke for every
+     *                    message.
+     * @param keyFunction returns the key whose order is kept for a message,
+     *                    or null if it has none.
+     * @param laneCount   the number of messages transformed in parallel.
+     * @param executor    runs the lanes, null for the shared executor. A
+     *                    bounded executor must not be the one invoking
+     *                    {@link #transformBatch(List)}, or the batch can wait
+     *                    on lanes which never start.
+     */
+    public KeyOrderedBatchTransformer(InboundMessageTransformer<T> transformer,
+                                      Function<? super T, ?> keyFunction,
+                                      int laneCount,
+                                      @Nullable Executor executor) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("laneCount must be positive");
+        }
+
+        this.transformer = Objects.requireNonNull(transformer, "transformer");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction");
+        this.lanes = laneCount - 1;
+        this.executor = executor;
+    }
+
+    /**
+     * Create a transformer of {@link InboundMessage}s keeping the order of
+     * the Aerospike record key, or of the message key for messages without an
+     * Aerospike record key.
+     *
+     * @param transformer the thread safe transformer to invoke for every
+     *                    message.
+     * @param laneCount   the number of messages transformed in parallel.
+     * @param <K>         type of message key.
+     * @param <M>         type of message.
+     * @return a new transformer.
+     */
+    public static <K, M> KeyOrderedBatchTransformer<InboundMessage<K, M>> forInboundMessages(
+            InboundMessageTransformer<InboundMessage<K, M>> transformer,
+            int laneCount) {
+        return new KeyOrderedBatchTransformer<>(transformer,
+                message -> message.getKey()
+                        .map(key -> (Object) key)
+                        .orElseGet(() -> message.getMessageKey().orElse(null)),
+                laneCount);
+    }
+
+    @Override
+    public List<AerospikeRecordOperation> transformBatch(List<T> inputs) {
+        AerospikeRecordOperation[] operations =
+                new AerospikeRecordOperation[inputs.size()];
+        if (lanes == 0 || inputs.size() < 2) {
+            transform(inputs, allIndexes(inputs.size()), operations);
+            return Arrays.asList(operations);
+        }
+
+        List<List<Integer>> laneIndexes = new ArrayList<>(lanes + 1);
+        for (int lane = 0; lane <= lanes; lane++) {
+            laneIndexes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < inputs.size(); i++) {
+            laneIndexes.get(lane(keyFunction.apply(inputs.get(i)))).add(i);
+        }
+
+        Executor laneExecutor =
+                executor != null ? executor : SharedExecutor.EXECUTOR;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            List<Integer> indexes = laneIndexes.get(lane);
+            if (!indexes.isEmpty()) {
+                futures.add(CompletableFuture.runAsync(
+                        () -> transform(inputs, indexes, operations),
+                        laneExecutor));
+            }
+        }
+
+        RuntimeException failure = null;
+        if (!laneIndexes.get(lanes).isEmpty()) {
+            try {
+                transform(inputs, laneIndexes.get(lanes), operations);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        // Wait for every lane even on failure, so no lane of this batch runs
+        // concurrently with the next batch.
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ?
+                            (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return Arrays.asList(operations);
+    }
+
+    @Override
+    public AerospikeRecordOperation transform(T input) {
+        return transformer.transform(input);
+    }
+
+    /**
+     * Get the number of lanes.
+     *
+     * @return the number of messages transformed in parallel.
+     */
+    public int getLaneCount() {
+        return lanes + 1;
+    }
+
+    private void transform(List<T> inputs, List<Integer> indexes,
+                           AerospikeRecordOperation[] operations) {
+        for (int index : indexes) {
+            operations[index] = transformer.transform(inputs.get(index));
+        }
+    }
+
+    private int lane(Object key) {
+        if (key == null) {
+            return 0;
+        }
+
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes + 1);
+    }
+
+    private static List<Integer> allIndexes(int size) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    /**
+     * Holds the shared executor, created on the first batch run in parallel.
+     * Its idle threads exit after a minute.
+     */
+    private static final class SharedExecutor {
+        static final ExecutorService EXECUTOR =
+                Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "key-ordered-transformer-" +
+                                    THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
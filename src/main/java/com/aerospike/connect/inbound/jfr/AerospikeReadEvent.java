@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for a call of an
+ * {@link com.aerospike.connect.inbound.AerospikeReader}, emitted by
+ * {@link JfrAerospikeReader}.
+ *
+ * <p>
+ * Only reads taking at least the threshold, 10 ms unless overridden with
+ * <code>aerospike.inbound.Read#threshold</code> in the recording settings,
+ * are recorded. The namespace and set of a batch call are those of its first
+ * key.
+ * </p>
+ */
+@Name(AerospikeReadEvent.NAME)
+@Label("Aerospike Read")
+@Category({"Aerospike", "Inbound Connector"})
+@Description("A read of the Aerospike database by a message transformer")
+@StackTrace(false)
+@Threshold("10 ms")
+public final class AerospikeReadEvent extends Event {
+    /**
+     * The name of the event in recordings.
+     */
+    public static final String NAME = "aerospike.inbound.Read";
+
+    @Label("Call")
+    @Description("The reader call, see ReaderCall")
+    String call;
+
+    @Label("Namespace")
+    String namespace;
+
+    @Label("Set")
+    String setName;
+
+    @Label("Keys")
+    @Description("The number of keys read")
+    int keyCount;
+
+    @Label("Error")
+    @Description("The class of the exception thrown by the reader")
+    String error;
+}
@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for a call of
+ * {@link com.aerospike.connect.inbound.InboundMessageTransformer#transform},
+ * emitted by {@link JfrInboundMessageTransformer}.
+ *
+ * <p>
+ * Only transforms taking at least the threshold, 10 ms unless overridden
+ * with <code>aerospike.inbound.Transform#threshold</code> in the recording
+ * settings, are recorded.
+ * </p>
+ */
+@Name(InboundTransformEvent.NAME)
+@Label("Inbound Transform")
+@Category({"Aerospike", "Inbound Connector"})
+@Description("A message transformed into an Aerospike record operation")
+@StackTrace(false)
+@Threshold("10 ms")
+public final class InboundTransformEvent extends Event {
+    /**
+     * The name of the event in recordings.
+     */
+    public static final String NAME = "aerospike.inbound.Transform";
+
+    @Label("Namespace")
+    @Description("The namespace of the record written, if a single record")
+    String namespace;
+
+    @Label("Set")
+    @Description("The set of the record written, if a single record")
+    String setName;
+
+    @Label("Operation Type")
+    @Description("The class of the operation returned")
+    String operationType;
+
+    @Label("Error")
+    @Description("The class of the exception thrown by the transformer")
+    String error;
+}
@@ -0,0 +1,257 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.jfr;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.metrics.ReaderCall;
+
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link AerospikeReader} emitting an {@link AerospikeReadEvent} for every
+ * call of a delegate reader.
+ *
+ * <p>
+ * Every call is passed on to the same call of the delegate. The event is only
+ * filled in and committed if it is enabled and the call took at least its
+ * threshold, so the decorator costs next to nothing while no recording is
+ * running.
+ * </p>
+ */
+public class JfrAerospikeReader implements AerospikeReader {
+    /**
+     * The reader to record.
+     */
+    private final AerospikeReader delegate;
+
+    /**
+     * Create a recorded reader.
+     *
+     * @param delegate the reader to record.
+     */
+    public JfrAerospikeReader(AerospikeReader delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.getRecord(key);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.GET, key, 1);
+        }
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.get(policy, key);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.GET, key, 1);
+        }
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames)
+            throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.get(policy, key, binNames);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.GET, key, 1);
+        }
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records)
+            throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            delegate.get(policy, records);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.BATCH_READ,
+                    records.isEmpty() ? null : records.get(0).key,
+                    records.size());
+        }
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.get(policy, keys);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.BATCH_GET, keys);
+        }
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+            throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.get(policy, keys, binNames);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.BATCH_GET, keys);
+        }
+    }
+
+    @Override
+    public boolean exists(Policy policy, Key key) throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.exists(policy, key);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.EXISTS, key, 1);
+        }
+    }
+
+    @Override
+    public boolean[] exists(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.exists(policy, keys);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.BATCH_EXISTS, keys);
+        }
+    }
+
+    @Override
+    public Record getHeader(Policy policy, Key key) throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.getHeader(policy, key);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.GET_HEADER, key, 1);
+        }
+    }
+
+    @Override
+    public Record[] getHeader(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.getHeader(policy, keys);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.BATCH_GET_HEADER, keys);
+        }
+    }
+
+    @Override
+    public Record operate(Policy policy, Key key, Operation... operations)
+            throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.operate(policy, key, operations);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.OPERATE, key, 1);
+        }
+    }
+
+    @Override
+    public Record[] operate(BatchPolicy policy, Key[] keys,
+                            Operation... operations) throws AerospikeException {
+        AerospikeReadEvent event = new AerospikeReadEvent();
+        event.begin();
+        try {
+            return delegate.operate(policy, keys, operations);
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            commit(event, ReaderCall.BATCH_OPERATE, keys);
+        }
+    }
+
+    private static void commit(AerospikeReadEvent event, ReaderCall call,
+                               Key[] keys) {
+        commit(event, call, keys.length == 0 ? null : keys[0], keys.length);
+    }
+
+    private static void commit(AerospikeReadEvent event, ReaderCall call,
+                               @Nullable Key key, int keyCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.call = call.name();
+            if (key != null) {
+                event.namespace = key.namespace;
+                event.setName = key.setName;
+            }
+            event.keyCount = keyCount;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.jfr;
+
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSingleRecordOperation;
+
+import java.util.Objects;
+
+/**
+ * An {@link InboundMessageTransformer} emitting an
+ * {@link InboundTransformEvent} for every transform of a delegate
+ * transformer.
+ *
+ * <p>
+ * The event is only filled in and committed if it is enabled and the
+ * transform took at least its threshold, so the decorator costs next to
+ * nothing while no recording is running, and can stay in place in
+ * production to profile a running connector.
+ * </p>
+ *
+ * @param <T> incoming message type
+ */
+public class JfrInboundMessageTransformer<T>
+        implements InboundMessageTransformer<T> {
+    /**
+     * The transformer to record.
+     */
+    private final InboundMessageTransformer<T> delegate;
+
+    /**
+     * Create a recorded transformer.
+     *
+     * @param delegate the transformer to record.
+     */
+    public JfrInboundMessageTransformer(InboundMessageTransformer<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    public AerospikeRecordOperation transform(T input) {
+        InboundTransformEvent event = new InboundTransformEvent();
+        event.begin();
+        AerospikeRecordOperation operation = null;
+        try {
+            operation = delegate.transform(input);
+            return operation;
+        } catch (RuntimeException | Error e) {
+            event.error = e.getClass().getName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (operation != null) {
+                    event.operationType = operation.getClass().getName();
+                }
+                if (operation instanceof AerospikeSingleRecordOperation) {
+                    Key key = ((AerospikeSingleRecordOperation) operation)
+                            .getKey();
+                    if (key != null) {
+                        event.namespace = key.namespace;
+                        event.setName = key.setName;
+                    }
+                }
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link AerospikeReader} of the records of an {@link InMemoryRecordStore},
+ * to run transformers which read records without a cluster.
+ *
+ * <p>
+ * Every call waits for the configured latency before reading, a batch call
+ * waits once, so that throughput tests see the effect of round trips.
+ * Policies are ignored.
+ * </p>
+ */
+public class InMemoryAerospikeReader implements AerospikeReader {
+    /**
+     * The records to read.
+     */
+    private final InMemoryRecordStore store;
+
+    /**
+     * The latency injected in every call in nanoseconds.
+     */
+    private final long latencyNanos;
+
+    /**
+     * Create a reader without latency.
+     *
+     * @param store the records to read.
+     */
+    public InMemoryAerospikeReader(InMemoryRecordStore store) {
+        this(store, Duration.ZERO);
+    }
+
+    /**
+     * Create a reader.
+     *
+     * @param store   the records to read.
+     * @param latency the latency injected in every call.
+     */
+    public InMemoryAerospikeReader(InMemoryRecordStore store,
+                                   Duration latency) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.latencyNanos = latency.toNanos();
+    }
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        return get(null, key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        return store.get(key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames)
+            throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        return store.get(key, binNames);
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records)
+            throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        for (BatchRead record : records) {
+            try {
+                Record result = store.read(record);
+                if (result == null) {
+                    record.setError(ResultCode.KEY_NOT_FOUND_ERROR, false);
+                } else {
+                    record.setRecord(result);
+                }
+            } catch (AerospikeException e) {
+                record.setError(e.getResultCode(), false);
+            }
+        }
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        Record[] records = new Record[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            records[i] = store.get(keys[i]);
+        }
+        return records;
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+            throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        Record[] records = new Record[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            records[i] = store.get(keys[i], binNames);
+        }
+        return records;
+    }
+
+    @Override
+    public Record getHeader(Policy policy, Key key) throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        return store.getHeader(key);
+    }
+
+    @Override
+    public Record operate(Policy policy, Key key, Operation... operations)
+            throws AerospikeException {
+        InMemoryRecordStore.pause(latencyNanos);
+        return store.read(key, operations);
+    }
+}
@@ -0,0 +1,624 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
+import com.aerospike.client.util.Unpacker;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Executes the common List and Map CDT operations of the Aerospike client on
+ * bins held in memory.
+ *
+ * <p>
+ * A CDT operation carries its command and arguments packed as a message pack
+ * array, <code>[command, arguments...]</code>, wrapped in
+ * <code>[0xff, [context...], [command, arguments...]]</code> if it has a
+ * {@link com.aerospike.client.cdt.CTX}. The arguments are unpacked and the
+ * command is executed on the Java list or map of the bin. Values are
+ * normalized the way the server returns them: integers are longs, lists are
+ * {@link ArrayList}s and maps are {@link LinkedHashMap}s in insertion order.
+ * </p>
+ */
+final class InMemoryCdt {
+    private static final int CTX_COMMAND = 0xff;
+    private static final int CTX_TYPE_MASK = 0x3f;
+    private static final int CTX_CREATE_MASK = 0xc0;
+    private static final int CTX_LIST_INDEX = 0x10;
+    private static final int CTX_MAP_KEY = 0x22;
+
+    private static final int LIST_APPEND = 1;
+    private static final int LIST_APPEND_ITEMS = 2;
+    private static final int LIST_INSERT = 3;
+    private static final int LIST_INSERT_ITEMS = 4;
+    private static final int LIST_POP = 5;
+    private static final int LIST_REMOVE = 7;
+    private static final int LIST_REMOVE_RANGE = 8;
+    private static final int LIST_SET = 9;
+    private static final int LIST_CLEAR = 11;
+    private static final int LIST_INCREMENT = 12;
+    private static final int LIST_SIZE = 16;
+    private static final int LIST_GET = 17;
+    private static final int LIST_GET_RANGE = 18;
+    private static final int LIST_GET_BY_INDEX = 19;
+    private static final int LIST_GET_BY_VALUE = 22;
+    private static final int LIST_REMOVE_BY_INDEX = 32;
+    private static final int LIST_REMOVE_BY_VALUE = 35;
+    private static final int LIST_REMOVE_BY_VALUE_LIST = 36;
+
+    private static final int MAP_ADD = 65;
+    private static final int MAP_ADD_ITEMS = 66;
+    private static final int MAP_PUT = 67;
+    private static final int MAP_PUT_ITEMS = 68;
+    private static final int MAP_REPLACE = 69;
+    private static final int MAP_REPLACE_ITEMS = 70;
+    private static final int MAP_INCREMENT = 73;
+    private static final int MAP_DECREMENT = 74;
+    private static final int MAP_CLEAR = 75;
+    private static final int MAP_REMOVE_BY_KEY = 76;
+    private static final int MAP_REMOVE_BY_KEY_LIST = 81;
+    private static final int MAP_SIZE = 96;
+    private static final int MAP_GET_BY_KEY = 97;
+    private static final int MAP_GET_BY_KEY_LIST = 107;
+
+    private static final int MAP_CREATE_ONLY = 1;
+    private static final int MAP_UPDATE_ONLY = 2;
+    private static final int MAP_NO_FAIL = 4;
+
+    private static final int RETURN_NONE = 0;
+    private static final int RETURN_INDEX = 1;
+    private static final int RETURN_REVERSE_INDEX = 2;
+    private static final int RETURN_COUNT = 5;
+    private static final int RETURN_KEY = 6;
+    private static final int RETURN_VALUE = 7;
+    private static final int RETURN_KEY_VALUE = 8;
+    private static final int RETURN_EXISTS = 13;
+
+    private InMemoryCdt() {
+    }
+
+    /**
+     * Execute a CDT operation on the bins of a record.
+     *
+     * @param bins      the bins of the record, only modified by write
+     *                  operations.
+     * @param operation a List or Map CDT operation.
+     * @return the result of the operation, may be null.
+     * @throws AerospikeException if the operation is not supported or fails.
+     */
+    @Nullable
+    static Object execute(Map<String, Object> bins, Operation operation) {
+        List<?> arguments = unpack(operation.value);
+        List<?> context = Collections.emptyList();
+        if (toInt(arguments.get(0)) == CTX_COMMAND) {
+            context = (List<?>) arguments.get(1);
+            arguments = (List<?>) arguments.get(2);
+        }
+
+        int command = toInt(arguments.get(0));
+        boolean mapCommand = command >= MAP_ADD;
+        boolean write = operation.type.isWrite;
+        Object bin = bins.get(operation.binName);
+
+        if (!write) {
+            Object target = resolve(bin, context, mapCommand, false);
+            return target == null ? null :
+                    execute(target, command, arguments, false);
+        }
+
+        boolean created = bin == null;
+        Object root = created ? newContainer(context.isEmpty() ? mapCommand :
+                isMapContext(toInt(context.get(0)))) : normalize(bin);
+        Object target = resolve(root, context, mapCommand, true);
+        if (target == null) {
+            throw new AerospikeException(ResultCode.OP_NOT_APPLICABLE,
+                    "Context of " + operation.binName + " not found");
+        }
+
+        Object result = execute(target, command, arguments, true);
+        if (!created || !isEmpty(root)) {
+            bins.put(operation.binName, root);
+        }
+        return result;
+    }
+
+    /**
+     * Add two numbers like {@link Operation.Type#ADD} and CDT increments.
+     *
+     * @param current the current value, null is treated as zero.
+     * @param delta   the number to add.
+     * @return the sum.
+     * @throws AerospikeException if either value is not a number.
+     */
+    static Object add(@Nullable Object current, @Nullable Object delta) {
+        if (current == null) {
+            current = 0L;
+        }
+        if (current instanceof Long && delta instanceof Long) {
+            return (Long) current + (Long) delta;
+        }
+        if (current instanceof Number && delta instanceof Number &&
+                (current instanceof Double || delta instanceof Double)) {
+            return ((Number) current).doubleValue() +
+                    ((Number) delta).doubleValue();
+        }
+        throw new AerospikeException(ResultCode.BIN_TYPE_ERROR,
+                "Cannot add " + delta + " to " + current);
+    }
+
+    /**
+     * Copy a value into the form stored in memory. Lists, maps, map entries
+     * and byte arrays are copied deeply so that the stored value is not
+     * shared with the caller.
+     *
+     * @param value a Java value or a {@link Value}, may be null.
+     * @return the normalized copy.
+     */
+    @Nullable
+    static Object normalize(@Nullable Object value) {
+        if (value instanceof Value.ByteSegmentValue) {
+            Value.ByteSegmentValue segment = (Value.ByteSegmentValue) value;
+            return Arrays.copyOfRange(segment.getBytes(), segment.getOffset(),
+                    segment.getOffset() + segment.getLength());
+        }
+        if (value instanceof Value) {
+            return normalize(((Value) value).getObject());
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof Integer || value instanceof Short ||
+                value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                list.add(normalize(element));
+            }
+            return list;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(normalize(entry.getKey()), normalize(entry.getValue()));
+            }
+            return map;
+        }
+        if (value instanceof Map.Entry) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            return new AbstractMap.SimpleImmutableEntry<>(
+                    normalize(entry.getKey()), normalize(entry.getValue()));
+        }
+        return value;
+    }
+
+    private static List<?> unpack(Value value) {
+        Object packed = value.getObject();
+        if (!(packed instanceof byte[])) {
+            throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                    "CDT operation is not packed");
+        }
+
+        byte[] bytes = (byte[]) packed;
+        Object unpacked = Unpacker.unpackObjectList(bytes, 0, bytes.length);
+        return (List<?>) unpacked;
+    }
+
+    /**
+     * Follow the context to the list or map the command applies to.
+     *
+     * @return the container, or null if an element of the context is not
+     * found.
+     */
+    @Nullable
+    private static Object resolve(@Nullable Object root, List<?> context,
+                                  boolean mapCommand, boolean write) {
+        Object current = root;
+        for (int i = 0; i < context.size() && current != null; i += 2) {
+            int id = toInt(context.get(i));
+            Object selector = normalize(context.get(i + 1));
+            boolean create = write && (id & CTX_CREATE_MASK) != 0;
+            boolean childIsMap = i + 2 < context.size() ?
+                    isMapContext(toInt(context.get(i + 2))) : mapCommand;
+
+            switch (id & CTX_TYPE_MASK) {
+                case CTX_LIST_INDEX: {
+                    List<Object> list = asList(current);
+                    int index = toInt(selector);
+                    if (create && index == list.size()) {
+                        list.add(newContainer(childIsMap));
+                    }
+                    current = list.get(index(index, list.size()));
+                    break;
+                }
+                case CTX_MAP_KEY: {
+                    Map<Object, Object> map = asMap(current);
+                    current = map.get(selector);
+                    if (current == null && create) {
+                        current = newContainer(childIsMap);
+                        map.put(selector, current);
+                    }
+                    break;
+                }
+                default:
+                    throw unsupported("CDT context " + id);
+            }
+        }
+        return current;
+    }
+
+    @Nullable
+    private static Object execute(Object target, int command,
+                                  List<?> arguments, boolean write) {
+        if (command >= MAP_ADD) {
+            return executeMap(asMap(target), command, arguments, write);
+        }
+        return executeList(asList(target), command, arguments, write);
+    }
+
+    @Nullable
+    private static Object executeList(List<Object> list, int command,
+                                      List<?> arguments, boolean write) {
+        switch (command) {
+            case LIST_SIZE:
+                return (long) list.size();
+            case LIST_GET:
+                return list.get(index(argument(arguments, 1), list.size()));
+            case LIST_GET_RANGE: {
+                int from = index(argument(arguments, 1), list.size() + 1);
+                return new ArrayList<>(list.subList(from,
+                        rangeEnd(arguments, from, list.size())));
+            }
+            case LIST_GET_BY_INDEX: {
+                int index = index(argument(arguments, 2), list.size());
+                return listResult(argument(arguments, 1), list.size(),
+                        Collections.singletonList(index), list, true);
+            }
+            case LIST_GET_BY_VALUE:
+                return listResult(argument(arguments, 1), list.size(),
+                        indexesOf(list, Collections.singletonList(
+                                normalize(arguments.get(2)))), list, false);
+            default:
+                break;
+        }
+
+        if (!write) {
+            throw unsupported("List command " + command);
+        }
+
+        switch (command) {
+            case LIST_APPEND:
+                list.add(normalize(arguments.get(1)));
+                return (long) list.size();
+            case LIST_APPEND_ITEMS:
+                list.addAll(asList(normalize(arguments.get(1))));
+                return (long) list.size();
+            case LIST_INSERT:
+                list.add(index(argument(arguments, 1), list.size() + 1),
+                        normalize(arguments.get(2)));
+                return (long) list.size();
+            case LIST_INSERT_ITEMS:
+                list.addAll(index(argument(arguments, 1), list.size() + 1),
+                        asList(normalize(arguments.get(2))));
+                return (long) list.size();
+            case LIST_POP:
+                return list.remove(index(argument(arguments, 1), list.size()));
+            case LIST_REMOVE:
+                list.remove(index(argument(arguments, 1), list.size()));
+                return 1L;
+            case LIST_REMOVE_RANGE: {
+                int from = index(argument(arguments, 1), list.size() + 1);
+                List<Object> range = list.subList(from,
+                        rangeEnd(arguments, from, list.size()));
+                long count = range.size();
+                range.clear();
+                return count;
+            }
+            case LIST_SET: {
+                int index = argument(arguments, 1);
+                Object value = normalize(arguments.get(2));
+                if (index == list.size()) {
+                    list.add(value);
+                } else {
+                    list.set(index(index, list.size()), value);
+                }
+                return null;
+            }
+            case LIST_CLEAR:
+                list.clear();
+                return null;
+            case LIST_INCREMENT: {
+                int index = index(argument(arguments, 1), list.size());
+                Object sum = add(list.get(index), arguments.size() > 2 ?
+                        normalize(arguments.get(2)) : 1L);
+                list.set(index, sum);
+                return sum;
+            }
+            case LIST_REMOVE_BY_INDEX: {
+                int index = index(argument(arguments, 2), list.size());
+                Object result = listResult(argument(arguments, 1), list.size(),
+                        Collections.singletonList(index), list, true);
+                list.remove(index);
+                return result;
+            }
+            case LIST_REMOVE_BY_VALUE:
+            case LIST_REMOVE_BY_VALUE_LIST: {
+                List<?> values = command == LIST_REMOVE_BY_VALUE ?
+                        Collections.singletonList(normalize(arguments.get(2))) :
+                        asList(normalize(arguments.get(2)));
+                List<Integer> indexes = indexesOf(list, values);
+                Object result = listResult(argument(arguments, 1), list.size(),
+                        indexes, list, false);
+                for (int i = indexes.size() - 1; i >= 0; i--) {
+                    list.remove((int) indexes.get(i));
+                }
+                return result;
+            }
+            default:
+                throw unsupported("List command " + command);
+        }
+    }
+
+    @Nullable
+    private static Object executeMap(Map<Object, Object> map, int command,
+                                     List<?> arguments, boolean write) {
+        switch (command) {
+            case MAP_SIZE:
+                return (long) map.size();
+            case MAP_GET_BY_KEY:
+                return mapResult(argument(arguments, 1), map,
+                        Collections.singletonList(normalize(arguments.get(2))),
+                        true);
+            case MAP_GET_BY_KEY_LIST:
+                return mapResult(argument(arguments, 1), map,
+                        asList(normalize(arguments.get(2))), false);
+            default:
+                break;
+        }
+
+        if (!write) {
+            throw unsupported("Map command " + command);
+        }
+
+        switch (command) {
+            case MAP_ADD:
+            case MAP_PUT:
+            case MAP_REPLACE:
+                putItem(map, command, arguments.size() > 4 ?
+                                argument(arguments, 4) : 0,
+                        normalize(arguments.get(1)),
+                        normalize(arguments.get(2)));
+                return (long) map.size();
+            case MAP_ADD_ITEMS:
+            case MAP_PUT_ITEMS:
+            case MAP_REPLACE_ITEMS: {
+                int flags = arguments.size() > 3 ? argument(arguments, 3) : 0;
+                for (Map.Entry<Object, Object> item :
+                        asMap(normalize(arguments.get(1))).entrySet()) {
+                    putItem(map, command - 1, flags, item.getKey(),
+                            item.getValue());
+                }
+                return (long) map.size();
+            }
+            case MAP_INCREMENT:
+            case MAP_DECREMENT: {
+                Object key = normalize(arguments.get(1));
+                Object delta = arguments.size() > 2 ?
+                        normalize(arguments.get(2)) : 1L;
+                if (command == MAP_DECREMENT && delta instanceof Double) {
+                    delta = -(Double) delta;
+                } else if (command == MAP_DECREMENT) {
+                    delta = -toLong(delta);
+                }
+                Object sum = add(map.get(key), delta);
+                map.put(key, sum);
+                return sum;
+            }
+            case MAP_CLEAR:
+                map.clear();
+                return null;
+            case MAP_REMOVE_BY_KEY:
+            case MAP_REMOVE_BY_KEY_LIST: {
+                boolean single = command == MAP_REMOVE_BY_KEY;
+                List<?> keys = single ?
+                        Collections.singletonList(normalize(arguments.get(2))) :
+                        asList(normalize(arguments.get(2)));
+                Object result = mapResult(argument(arguments, 1), map, keys,
+                        single);
+                map.keySet().removeAll(keys);
+                return result;
+            }
+            default:
+                throw unsupported("Map command " + command);
+        }
+    }
+
+    private static void putItem(Map<Object, Object> map, int command,
+                                int flags, Object key, Object value) {
+        boolean createOnly = command == MAP_ADD ||
+                (flags & MAP_CREATE_ONLY) != 0;
+        boolean updateOnly = command == MAP_REPLACE ||
+                (flags & MAP_UPDATE_ONLY) != 0;
+        boolean present = map.containsKey(key);
+
+        if ((createOnly && present) || (updateOnly && !present)) {
+            if ((flags & MAP_NO_FAIL) != 0) {
+                return;
+            }
+            throw new AerospikeException(present ? ResultCode.ELEMENT_EXISTS :
+                    ResultCode.ELEMENT_NOT_FOUND, "Map key " + key);
+        }
+        map.put(key, value);
+    }
+
+    @Nullable
+    private static Object listResult(int returnType, int size,
+                                     List<Integer> indexes, List<Object> list,
+                                     boolean single) {
+        switch (returnType) {
+            case RETURN_NONE:
+                return null;
+            case RETURN_COUNT:
+                return (long) indexes.size();
+            case RETURN_EXISTS:
+                return !indexes.isEmpty();
+            case RETURN_INDEX:
+            case RETURN_REVERSE_INDEX:
+            case RETURN_VALUE: {
+                List<Object> results = new ArrayList<>(indexes.size());
+                for (int index : indexes) {
+                    results.add(returnType == RETURN_VALUE ? list.get(index) :
+                            (long) (returnType == RETURN_INDEX ? index :
+                                    size - 1 - index));
+                }
+                return single ? results.get(0) : results;
+            }
+            default:
+                throw unsupported("List return type " + returnType);
+        }
+    }
+
+    @Nullable
+    private static Object mapResult(int returnType, Map<Object, Object> map,
+                                    List<?> keys, boolean single) {
+        List<Object> keysFound = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            if (map.containsKey(key)) {
+                keysFound.add(key);
+            }
+        }
+
+        switch (returnType) {
+            case RETURN_NONE:
+                return null;
+            case RETURN_COUNT:
+                return (long) keysFound.size();
+            case RETURN_EXISTS:
+                return !keysFound.isEmpty();
+            case RETURN_KEY:
+            case RETURN_VALUE:
+            case RETURN_KEY_VALUE: {
+                List<Object> results = new ArrayList<>(keysFound.size());
+                for (Object key : keysFound) {
+                    results.add(returnType == RETURN_KEY ? key :
+                            returnType == RETURN_VALUE ? map.get(key) :
+                                    new AbstractMap.SimpleImmutableEntry<>(key,
+                                            map.get(key)));
+                }
+                if (!single) {
+                    return results;
+                }
+                return results.isEmpty() ? null : results.get(0);
+            }
+            default:
+                throw unsupported("Map return type " + returnType);
+        }
+    }
+
+    private static List<Integer> indexesOf(List<Object> list, List<?> values) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (values.contains(list.get(i))) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    private static int index(int index, int size) {
+        int resolved = index < 0 ? size + index : index;
+        if (resolved < 0 || resolved >= size) {
+            throw new AerospikeException(ResultCode.OP_NOT_APPLICABLE,
+                    "Index " + index + " out of bounds");
+        }
+        return resolved;
+    }
+
+    private static int rangeEnd(List<?> arguments, int from, int size) {
+        return arguments.size() > 2 ?
+                Math.min(size, from + Math.max(0, argument(arguments, 2))) :
+                size;
+    }
+
+    private static int argument(List<?> arguments, int index) {
+        return toInt(arguments.get(index));
+    }
+
+    private static int toInt(Object value) {
+        return (int) toLong(value);
+    }
+
+    private static long toLong(Object value) {
+        if (!(value instanceof Number)) {
+            throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                    "Expected an integer but got " + value);
+        }
+        return ((Number) value).longValue();
+    }
+
+    private static boolean isMapContext(int id) {
+        return (id & 0x20) != 0;
+    }
+
+    private static Object newContainer(boolean map) {
+        return map ? new LinkedHashMap<>() : new ArrayList<>();
+    }
+
+    private static boolean isEmpty(Object container) {
+        return container instanceof List ? ((List<?>) container).isEmpty() :
+                ((Map<?, ?>) container).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(@Nullable Object value) {
+        if (!(value instanceof List)) {
+            throw new AerospikeException(ResultCode.BIN_TYPE_ERROR,
+                    "Not a list: " + value);
+        }
+        return (List<Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> asMap(@Nullable Object value) {
+        if (!(value instanceof Map)) {
+            throw new AerospikeException(ResultCode.BIN_TYPE_ERROR,
+                    "Not a map: " + value);
+        }
+        return (Map<Object, Object>) value;
+    }
+
+    private static AerospikeException unsupported(String what) {
+        return new AerospikeException(ResultCode.PARAMETER_ERROR,
+                what + " is not supported in memory");
+    }
+}
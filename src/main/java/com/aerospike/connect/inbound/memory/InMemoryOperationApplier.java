@@ -0,0 +1,253 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.connect.inbound.operation.AerospikeBatchRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeCompositeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeConditionalOperation;
+import com.aerospike.connect.inbound.operation.AerospikeDeleteOperation;
+import com.aerospike.connect.inbound.operation.AerospikeOperateOperation;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSingleRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import com.aerospike.connect.inbound.pool.RecyclablePutOperation;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Applies the {@link AerospikeRecordOperation}s returned by transformers to
+ * an {@link InMemoryRecordStore}, the way the connector applies them to an
+ * Aerospike cluster.
+ *
+ * <p>
+ * Every write to a record waits for the configured latency, the records of
+ * an {@link AerospikeBatchRecordOperation} wait once. Errors whose result
+ * code is in the ignore error codes of the operation are ignored.
+ * </p>
+ */
+public class InMemoryOperationApplier {
+    /**
+     * The records to write.
+     */
+    private final InMemoryRecordStore store;
+
+    /**
+     * The latency injected in every write in nanoseconds.
+     */
+    private final long latencyNanos;
+
+    /**
+     * Create an applier without latency.
+     *
+     * @param store the records to write.
+     */
+    public InMemoryOperationApplier(InMemoryRecordStore store) {
+        this(store, Duration.ZERO);
+    }
+
+    /**
+     * Create an applier.
+     *
+     * @param store   the records to write.
+     * @param latency the latency injected in every write.
+     */
+    public InMemoryOperationApplier(InMemoryRecordStore store,
+                                    Duration latency) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.latencyNanos = latency.toNanos();
+    }
+
+    /**
+     * Apply an operation returned by a transformer. The operations of an
+     * {@link AerospikeCompositeRecordOperation} are applied in order, each
+     * atomically.
+     *
+     * @param operation the operation to apply.
+     * @throws AerospikeException       if the operation fails with a result
+     *                                  code which is not ignored.
+     * @throws IllegalArgumentException if the type of operation is not
+     *                                  supported.
+     */
+    public void apply(AerospikeRecordOperation operation) {
+        if (operation instanceof AerospikeSkipRecordOperation) {
+            return;
+        }
+
+        if (operation instanceof AerospikeCompositeRecordOperation) {
+            for (AerospikeSingleRecordOperation singleRecordOperation :
+                    ((AerospikeCompositeRecordOperation) operation)
+                            .getOperations()) {
+                apply(singleRecordOperation);
+            }
+            return;
+        }
+
+        if (operation instanceof AerospikeBatchRecordOperation) {
+            applyBatch((AerospikeBatchRecordOperation) operation);
+            return;
+        }
+
+        if (operation instanceof AerospikeSingleRecordOperation) {
+            AerospikeSingleRecordOperation singleRecordOperation =
+                    (AerospikeSingleRecordOperation) operation;
+            InMemoryRecordStore.pause(latencyNanos);
+            try {
+                applySingle(singleRecordOperation);
+            } catch (AerospikeException e) {
+                if (!singleRecordOperation.getIgnoreErrorCodes()
+                        .contains(e.getResultCode())) {
+                    throw e;
+                }
+            }
+            return;
+        }
+
+        throw new IllegalArgumentException("Unsupported operation " +
+                operation.getClass().getName());
+    }
+
+    private void applySingle(AerospikeSingleRecordOperation operation) {
+        WritePolicy writePolicy = operation.getWritePolicy();
+        if (operation instanceof AerospikePutOperation) {
+            store.put(writePolicy, operation.getKey(),
+                    ((AerospikePutOperation) operation).getBins()
+                            .toArray(new Bin[0]));
+        } else if (operation instanceof RecyclablePutOperation) {
+            store.put(writePolicy, operation.getKey(),
+                    ((RecyclablePutOperation) operation).toBins()
+                            .toArray(new Bin[0]));
+        } else if (operation instanceof AerospikeDeleteOperation) {
+            store.delete(writePolicy, operation.getKey());
+        } else if (operation instanceof AerospikeOperateOperation) {
+            store.operate(writePolicy, operation.getKey(),
+                    ((AerospikeOperateOperation) operation).getOperations()
+                            .toArray(new Operation[0]));
+        } else if (operation instanceof AerospikeConditionalOperation) {
+            applyConditional((AerospikeConditionalOperation) operation);
+        } else {
+            throw new IllegalArgumentException("Unsupported operation " +
+                    operation.getClass().getName());
+        }
+    }
+
+    private void applyConditional(AerospikeConditionalOperation operation) {
+        try {
+            store.operate(operation.getPresentWritePolicy(), operation.getKey(),
+                    operation.getPresentOperations()
+                            .toArray(new Operation[0]));
+        } catch (AerospikeException e) {
+            if (e.getResultCode() != ResultCode.KEY_NOT_FOUND_ERROR) {
+                throw e;
+            }
+            store.operate(operation.getAbsentWritePolicy(), operation.getKey(),
+                    operation.getAbsentOperations().toArray(new Operation[0]));
+        }
+    }
+
+    private void applyBatch(AerospikeBatchRecordOperation operation) {
+        InMemoryRecordStore.pause(latencyNanos);
+        Set<Integer> ignoreErrorCodes = operation.getIgnoreErrorCodes();
+        int failures = 0;
+        for (BatchRecord record : operation.getRecords()) {
+            try {
+                Record result = applyBatchRecord(record);
+                if (result == null && !record.hasWrite) {
+                    record.setError(ResultCode.KEY_NOT_FOUND_ERROR, false);
+                } else {
+                    record.setRecord(result);
+                }
+            } catch (AerospikeException e) {
+                record.setError(e.getResultCode(), false);
+                if (!ignoreErrorCodes.contains(e.getResultCode())) {
+                    failures++;
+                }
+            }
+        }
+
+        if (failures > 0) {
+            throw new AerospikeException(ResultCode.BATCH_FAILED,
+                    failures + " of " + operation.getRecords().size() +
+                            " batch records failed");
+        }
+    }
+
+    @Nullable
+    private Record applyBatchRecord(BatchRecord record) {
+        if (record instanceof BatchWrite) {
+            BatchWrite write = (BatchWrite) record;
+            return store.operate(toWritePolicy(write.policy), write.key,
+                    write.ops);
+        }
+        if (record instanceof BatchDelete) {
+            BatchDelete delete = (BatchDelete) record;
+            store.delete(toWritePolicy(delete.policy), delete.key);
+            return null;
+        }
+        if (record instanceof BatchRead) {
+            return store.read((BatchRead) record);
+        }
+        throw new IllegalArgumentException("Unsupported batch record " +
+                record.getClass().getName());
+    }
+
+    @Nullable
+    private static WritePolicy toWritePolicy(@Nullable BatchWritePolicy policy) {
+        if (policy == null) {
+            return null;
+        }
+
+        WritePolicy writePolicy = new WritePolicy();
+        writePolicy.filterExp = policy.filterExp;
+        writePolicy.recordExistsAction = policy.recordExistsAction;
+        writePolicy.generationPolicy = policy.generationPolicy;
+        writePolicy.generation = policy.generation;
+        writePolicy.expiration = policy.expiration;
+        writePolicy.durableDelete = policy.durableDelete;
+        return writePolicy;
+    }
+
+    @Nullable
+    private static WritePolicy toWritePolicy(@Nullable BatchDeletePolicy policy) {
+        if (policy == null) {
+            return null;
+        }
+
+        WritePolicy writePolicy = new WritePolicy();
+        writePolicy.filterExp = policy.filterExp;
+        writePolicy.generationPolicy = policy.generationPolicy;
+        writePolicy.generation = policy.generation;
+        writePolicy.durableDelete = policy.durableDelete;
+        return writePolicy;
+    }
+}
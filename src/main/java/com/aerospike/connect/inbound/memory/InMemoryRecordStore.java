@@ -0,0 +1,514 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+
+/**
+ * Aerospike records held in memory, keyed by namespace and digest, to run
+ * transformers end to end without a cluster.
+ *
+ * <p>
+ * Writes to a record are atomic and follow the
+ * {@link RecordExistsAction}, generation and
+ * expiration of the write policy. A record without bins is deleted and an
+ * expired record is treated as absent. Besides the bin operations of
+ * {@link Operation} the common List and Map CDT operations are supported,
+ * other operations and filter expressions fail with
+ * {@link ResultCode#PARAMETER_ERROR}.
+ * </p>
+ *
+ * <p>
+ * Reads return copies of the stored lists, maps and byte arrays, like the
+ * Aerospike client returns new objects, so modifying a read value does not
+ * change the store.
+ * </p>
+ */
+public class InMemoryRecordStore {
+    /**
+     * Seconds from the Unix epoch to the epoch of record expiration times.
+     */
+    private static final long CITRUSLEAF_EPOCH = 1262304000L;
+
+    /**
+     * Write policy used when none is given.
+     */
+    private static final WritePolicy DEFAULT_WRITE_POLICY = new WritePolicy();
+
+    /**
+     * The records by namespace and digest.
+     */
+    private final Map<RecordKey, Record> records = new ConcurrentHashMap<>();
+
+    /**
+     * Read all the bins of a record.
+     *
+     * @param key the record key.
+     * @return the record, or null if not found.
+     */
+    @Nullable
+    public Record get(Key key) {
+        Record record = live(records.get(new RecordKey(key)));
+        if (record == null) {
+            return null;
+        }
+
+        Map<String, Object> bins = new HashMap<>();
+        for (Map.Entry<String, Object> bin : record.bins.entrySet()) {
+            bins.put(bin.getKey(), InMemoryCdt.normalize(bin.getValue()));
+        }
+        return new Record(bins, record.generation, record.expiration);
+    }
+
+    /**
+     * Read some bins of a record.
+     *
+     * @param key      the record key.
+     * @param binNames the bins to read.
+     * @return the record with the bins found, or null if not found.
+     */
+    @Nullable
+    public Record get(Key key, String... binNames) {
+        Record record = live(records.get(new RecordKey(key)));
+        if (record == null) {
+            return null;
+        }
+
+        Map<String, Object> bins = new HashMap<>();
+        for (String binName : binNames) {
+            Object value = record.bins.get(binName);
+            if (value != null) {
+                bins.put(binName, InMemoryCdt.normalize(value));
+            }
+        }
+        return new Record(bins, record.generation, record.expiration);
+    }
+
+    /**
+     * Read the generation and expiration of a record.
+     *
+     * @param key the record key.
+     * @return the record without bins, or null if not found.
+     */
+    @Nullable
+    public Record getHeader(Key key) {
+        Record record = live(records.get(new RecordKey(key)));
+        return record == null ? null :
+                new Record(null, record.generation, record.expiration);
+    }
+
+    /**
+     * Perform read operations on a record.
+     *
+     * @param key        the record key.
+     * @param operations the read operations.
+     * @return the record with the results of the operations, or null if not
+     * found.
+     * @throws AerospikeException if an operation is a write operation or is
+     *                            not supported.
+     */
+    @Nullable
+    public Record read(Key key, Operation... operations) {
+        for (Operation operation : operations) {
+            if (operation.type.isWrite) {
+                throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                        "Write operation " + operation.type +
+                                " is not allowed in a read");
+            }
+        }
+
+        Record record = live(records.get(new RecordKey(key)));
+        if (record == null) {
+            return null;
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            execute(record.bins, operation, results);
+        }
+        return new Record(results, record.generation, record.expiration);
+    }
+
+    /**
+     * Perform the read of a batch.
+     *
+     * @param record the batch read.
+     * @return the record with the bins or the results of the operations of
+     * the batch read, or null if not found.
+     */
+    @Nullable
+    Record read(BatchRead record) {
+        if (record.ops != null) {
+            return read(record.key, record.ops);
+        }
+        if (record.readAllBins) {
+            return get(record.key);
+        }
+        if (record.binNames != null) {
+            return get(record.key, record.binNames);
+        }
+        return getHeader(record.key);
+    }
+
+    /**
+     * Write bins of a record.
+     *
+     * @param policy the write policy, null for the default.
+     * @param key    the record key.
+     * @param bins   the bins to write, a bin with a null value is removed.
+     * @throws AerospikeException if the write policy is not met.
+     */
+    public void put(@Nullable WritePolicy policy, Key key, Bin... bins) {
+        Operation[] operations = new Operation[bins.length];
+        for (int i = 0; i < bins.length; i++) {
+            operations[i] = Operation.put(bins[i]);
+        }
+        operate(policy, key, operations);
+    }
+
+    /**
+     * Perform read and write operations on a record atomically.
+     *
+     * @param policy     the write policy, null for the default.
+     * @param key        the record key.
+     * @param operations the operations in the order to perform them.
+     * @return the record with the results of the operations, or null if only
+     * read operations were given and the record was not found.
+     * @throws AerospikeException if the write policy is not met or an
+     *                            operation fails or is not supported.
+     */
+    @Nullable
+    public Record operate(@Nullable WritePolicy policy, Key key,
+                          Operation... operations) {
+        if (Arrays.stream(operations).noneMatch(o -> o.type.isWrite)) {
+            return read(key, operations);
+        }
+
+        WritePolicy writePolicy = policy == null ? DEFAULT_WRITE_POLICY :
+                policy;
+        requireNoFilter(writePolicy);
+
+        Record[] result = new Record[1];
+        records.compute(new RecordKey(key), (recordKey, existing) -> {
+            Record current = live(existing);
+            checkWrite(writePolicy, current);
+
+            boolean replace = current == null ||
+                    writePolicy.recordExistsAction == RecordExistsAction.REPLACE ||
+                    writePolicy.recordExistsAction == RecordExistsAction.REPLACE_ONLY;
+            Map<String, Object> bins = replace ? new HashMap<>() :
+                    new HashMap<>(current.bins);
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (Operation operation : operations) {
+                execute(bins, operation, results);
+            }
+
+            if (bins.isEmpty()) {
+                result[0] = new Record(results, 0, 0);
+                return null;
+            }
+
+            int generation = current == null ? 1 : current.generation + 1;
+            int expiration = expiration(writePolicy, current);
+            result[0] = new Record(results, generation, expiration);
+            return new Record(Collections.unmodifiableMap(bins), generation,
+                    expiration);
+        });
+        return result[0];
+    }
+
+    /**
+     * Delete a record.
+     *
+     * @param policy the write policy, null for the default. Only its
+     *               generation policy applies.
+     * @param key    the record key.
+     * @return whether the record existed.
+     * @throws AerospikeException if the generation policy is not met.
+     */
+    public boolean delete(@Nullable WritePolicy policy, Key key) {
+        WritePolicy writePolicy = policy == null ? DEFAULT_WRITE_POLICY :
+                policy;
+        requireNoFilter(writePolicy);
+
+        boolean[] deleted = new boolean[1];
+        records.computeIfPresent(new RecordKey(key), (recordKey, existing) -> {
+            Record current = live(existing);
+            if (current != null) {
+                checkGeneration(writePolicy, current);
+                deleted[0] = true;
+            }
+            return null;
+        });
+        return deleted[0];
+    }
+
+    /**
+     * Get the number of records, including expired records which have not
+     * been read or written since they expired.
+     *
+     * @return the number of records.
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Delete all records.
+     */
+    public void clear() {
+        records.clear();
+    }
+
+    /**
+     * Wait for an injected latency.
+     *
+     * @param latencyNanos the latency in nanoseconds, zero for none.
+     */
+    static void pause(long latencyNanos) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + latencyNanos;
+        long remaining = latencyNanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private static void execute(Map<String, Object> bins, Operation operation,
+                                Map<String, Object> results) {
+        String binName = operation.binName;
+        switch (operation.type) {
+            case READ:
+                if (binName == null) {
+                    for (Map.Entry<String, Object> bin : bins.entrySet()) {
+                        results.put(bin.getKey(),
+                                InMemoryCdt.normalize(bin.getValue()));
+                    }
+                } else {
+                    addResult(results, binName, bins.get(binName));
+                }
+                break;
+            case READ_HEADER:
+            case TOUCH:
+                break;
+            case WRITE: {
+                Object value = operation.value == null ? null :
+                        InMemoryCdt.normalize(operation.value);
+                if (value == null) {
+                    bins.remove(binName);
+                } else {
+                    bins.put(binName, value);
+                }
+                break;
+            }
+            case ADD:
+                bins.put(binName, InMemoryCdt.add(bins.get(binName),
+                        InMemoryCdt.normalize(operation.value)));
+                break;
+            case APPEND:
+            case PREPEND: {
+                Object current = bins.get(binName);
+                Object value = InMemoryCdt.normalize(operation.value);
+                if ((current != null && !(current instanceof String)) ||
+                        !(value instanceof String)) {
+                    throw new AerospikeException(ResultCode.BIN_TYPE_ERROR,
+                            "Cannot " + operation.type + " " + value +
+                                    " to " + current);
+                }
+                String string = current == null ? "" : (String) current;
+                bins.put(binName, operation.type == Operation.Type.APPEND ?
+                        string + value : value + string);
+                break;
+            }
+            case DELETE:
+                bins.clear();
+                break;
+            case CDT_READ:
+            case CDT_MODIFY:
+            case MAP_READ:
+            case MAP_MODIFY:
+                addResult(results, binName, InMemoryCdt.execute(bins,
+                        operation));
+                break;
+            default:
+                throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                        "Operation " + operation.type +
+                                " is not supported in memory");
+        }
+    }
+
+    /**
+     * Add the result of an operation, the results of multiple operations on
+     * the same bin are returned as a list like the Aerospike client does. The
+     * value is copied, it may be part of a stored bin.
+     */
+    private static void addResult(Map<String, Object> results, String binName,
+                                  @Nullable Object raw) {
+        if (raw == null) {
+            return;
+        }
+
+        Object value = InMemoryCdt.normalize(raw);
+        Object previous = results.get(binName);
+        if (previous == null) {
+            results.put(binName, value);
+        } else if (previous instanceof OperationResults) {
+            ((OperationResults) previous).add(value);
+        } else {
+            OperationResults operationResults = new OperationResults();
+            operationResults.add(previous);
+            operationResults.add(value);
+            results.put(binName, operationResults);
+        }
+    }
+
+    private static void requireNoFilter(WritePolicy policy) {
+        if (policy.filterExp != null) {
+            throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                    "Filter expressions are not supported in memory");
+        }
+    }
+
+    private static void checkWrite(WritePolicy policy,
+                                   @Nullable Record current) {
+        switch (policy.recordExistsAction) {
+            case UPDATE_ONLY:
+            case REPLACE_ONLY:
+                if (current == null) {
+                    throw new AerospikeException(
+                            ResultCode.KEY_NOT_FOUND_ERROR);
+                }
+                break;
+            case CREATE_ONLY:
+                if (current != null) {
+                    throw new AerospikeException(ResultCode.KEY_EXISTS_ERROR);
+                }
+                break;
+            default:
+                break;
+        }
+        checkGeneration(policy, current);
+    }
+
+    private static void checkGeneration(WritePolicy policy,
+                                        @Nullable Record current) {
+        int generation = current == null ? 0 : current.generation;
+        switch (policy.generationPolicy) {
+            case EXPECT_GEN_EQUAL:
+                if (policy.generation != generation) {
+                    throw new AerospikeException(ResultCode.GENERATION_ERROR);
+                }
+                break;
+            case EXPECT_GEN_GT:
+                if (policy.generation <= generation) {
+                    throw new AerospikeException(ResultCode.GENERATION_ERROR);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * The expiration of a written record, as seconds from the
+     * {@link #CITRUSLEAF_EPOCH} like {@link Record#expiration}. The namespace
+     * default expiration is taken to be never.
+     */
+    private static int expiration(WritePolicy policy,
+                                  @Nullable Record current) {
+        if (policy.expiration == -2) {
+            return current == null ? 0 : current.expiration;
+        }
+        return policy.expiration > 0 ? now() + policy.expiration : 0;
+    }
+
+    @Nullable
+    private static Record live(@Nullable Record record) {
+        return record == null ||
+                (record.expiration > 0 && record.expiration <= now()) ? null :
+                record;
+    }
+
+    private static int now() {
+        return (int) (System.currentTimeMillis() / 1000 - CITRUSLEAF_EPOCH);
+    }
+
+    /**
+     * The results of multiple operations on the same bin.
+     */
+    private static class OperationResults extends ArrayList<Object> {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * The namespace and digest of a record, the set and user key do not
+     * identify a record.
+     */
+    private static final class RecordKey {
+        private final String namespace;
+        private final byte[] digest;
+        private final int hashCode;
+
+        private RecordKey(Key key) {
+            this.namespace = Objects.requireNonNull(key, "key").namespace;
+            this.digest = key.digest;
+            this.hashCode = 31 * namespace.hashCode() + Arrays.hashCode(digest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RecordKey)) {
+                return false;
+            }
+            RecordKey other = (RecordKey) o;
+            return namespace.equals(other.namespace) &&
+                    Arrays.equals(digest, other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A log-linear histogram of latencies in nanoseconds, in the manner of an
+ * HDR histogram. A recorded value is off by at most 1/32 of its value, about
+ * 3%, which is 5 significant binary digits.
+ *
+ * <p>
+ * Values below 32 have their own bucket, above that every power of two is
+ * split in 32 linear buckets, so the whole range of a long fits in 1920
+ * buckets. Recording is lock-free: the counts are striped by recording
+ * thread so that threads recording concurrently rarely update the same
+ * counters, and a stripe is allocated the first time a thread maps to it.
+ * {@link #snapshot()} sums the stripes.
+ * </p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets covering all non-negative longs.
+     */
+    static final int BUCKETS =
+            SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The slot of a stripe holding the maximum value recorded in it.
+     */
+    private static final int MAX_SLOT = BUCKETS;
+
+    private static final int MAX_STRIPES = 64;
+
+    /**
+     * The stripes of counts, allocated on first use.
+     */
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+
+    private final int stripeMask;
+
+    /**
+     * Create a histogram with a stripe per available processor.
+     */
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a histogram with the given number of stripes.
+     *
+     * @param stripes the number of stripes, rounded up to a power of two of
+     *                at most 64. One stripe for a histogram recorded by a
+     *                single thread.
+     */
+    public LatencyHistogram(int stripes) {
+        int stripeCount = Math.min(MAX_STRIPES,
+                Integer.highestOneBit(Math.max(1, stripes) * 2 - 1));
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded
+     *              as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        AtomicLongArray stripe = stripe();
+        stripe.getAndIncrement(index(value));
+
+        long max = stripe.get(MAX_SLOT);
+        while (value > max && !stripe.compareAndSet(MAX_SLOT, max, value)) {
+            max = stripe.get(MAX_SLOT);
+        }
+    }
+
+    /**
+     * Get the counts recorded so far. Latencies recorded concurrently may or
+     * may not be included.
+     *
+     * @return a snapshot of the histogram.
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long max = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] += stripe.get(bucket);
+            }
+            max = Math.max(max, stripe.get(MAX_SLOT));
+        }
+        return new LatencySnapshot(counts, max);
+    }
+
+    private AtomicLongArray stripe() {
+        // Spread sequential thread ids over the stripes.
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        int index = (int) (hash >>> 32) & stripeMask;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripe = new AtomicLongArray(BUCKETS + 1);
+            if (!stripes.compareAndSet(index, null, stripe)) {
+                stripe = stripes.get(index);
+            }
+        }
+        return stripe;
+    }
+
+    /**
+     * Get the bucket of a value.
+     *
+     * @param value a non-negative value.
+     * @return the index of the bucket.
+     */
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) -
+                SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the largest value of a bucket.
+     *
+     * @param index the index of the bucket.
+     * @return the largest value mapped to the bucket.
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1L) << shift) - 1;
+    }
+}
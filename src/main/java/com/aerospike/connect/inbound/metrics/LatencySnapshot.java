@@ -0,0 +1,90 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+/**
+ * The counts of a {@link LatencyHistogram} at a point in time.
+ */
+public final class LatencySnapshot {
+    /**
+     * The count of every bucket.
+     */
+    private final long[] counts;
+
+    private final long count;
+
+    private final long max;
+
+    LatencySnapshot(long[] counts, long max) {
+        this.counts = counts;
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+        this.max = max;
+    }
+
+    /**
+     * Get the number of latencies recorded.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the maximum latency recorded.
+     *
+     * @return the maximum latency in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Get the latency at a quantile.
+     *
+     * @param quantile the quantile between 0 and 1, for example 0.99 for the
+     *                 99th percentile.
+     * @return the upper bound of the bucket of the quantile in nanoseconds, at
+     * most the maximum recorded latency, or 0 if nothing was recorded.
+     */
+    public long getValueAtQuantile(double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, LatencyHistogram.upperBound(i));
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot(count=" + count +
+                ", p50=" + getValueAtQuantile(0.5) +
+                ", p99=" + getValueAtQuantile(0.99) +
+                ", p999=" + getValueAtQuantile(0.999) +
+                ", max=" + max + ")";
+    }
+}
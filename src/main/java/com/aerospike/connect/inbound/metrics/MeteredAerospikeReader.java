@@ -0,0 +1,264 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link AerospikeReader} recording the latency of every call of a
+ * delegate reader in {@link TransformerMetrics}, by {@link ReaderCall}.
+ *
+ * <p>
+ * Every call is passed on to the same call of the delegate, so the default
+ * methods of {@link AerospikeReader} overridden by the delegate are measured
+ * as themselves.
+ * </p>
+ */
+public class MeteredAerospikeReader implements AerospikeReader {
+    /**
+     * The reader to measure.
+     */
+    private final AerospikeReader delegate;
+
+    /**
+     * Where the measurements are recorded.
+     */
+    private final TransformerMetrics metrics;
+
+    /**
+     * Create a metered reader.
+     *
+     * @param delegate the reader to measure.
+     * @param metrics  where the measurements are recorded.
+     */
+    public MeteredAerospikeReader(AerospikeReader delegate,
+                                  TransformerMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Measure a reader unless the metrics are {@link NoopTransformerMetrics}.
+     *
+     * @param reader  the reader to measure.
+     * @param metrics where the measurements are recorded.
+     * @return the reader itself for no-op metrics, a metered reader otherwise.
+     */
+    public static AerospikeReader of(AerospikeReader reader,
+                                     TransformerMetrics metrics) {
+        return metrics == NoopTransformerMetrics.INSTANCE ? reader :
+                new MeteredAerospikeReader(reader, metrics);
+    }
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        long start = System.nanoTime();
+        Record result;
+        try {
+            result = delegate.getRecord(key);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.GET, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.GET, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        long start = System.nanoTime();
+        Record result;
+        try {
+            result = delegate.get(policy, key);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.GET, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.GET, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames)
+            throws AerospikeException {
+        long start = System.nanoTime();
+        Record result;
+        try {
+            result = delegate.get(policy, key, binNames);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.GET, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.GET, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records)
+            throws AerospikeException {
+        long start = System.nanoTime();
+        try {
+            delegate.get(policy, records);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.BATCH_READ, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.BATCH_READ, System.nanoTime() - start);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        long start = System.nanoTime();
+        Record[] result;
+        try {
+            result = delegate.get(policy, keys);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.BATCH_GET, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.BATCH_GET, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+            throws AerospikeException {
+        long start = System.nanoTime();
+        Record[] result;
+        try {
+            result = delegate.get(policy, keys, binNames);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.BATCH_GET, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.BATCH_GET, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public boolean exists(Policy policy, Key key) throws AerospikeException {
+        long start = System.nanoTime();
+        boolean result;
+        try {
+            result = delegate.exists(policy, key);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.EXISTS, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.EXISTS, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public boolean[] exists(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        long start = System.nanoTime();
+        boolean[] result;
+        try {
+            result = delegate.exists(policy, keys);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.BATCH_EXISTS, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.BATCH_EXISTS, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record getHeader(Policy policy, Key key) throws AerospikeException {
+        long start = System.nanoTime();
+        Record result;
+        try {
+            result = delegate.getHeader(policy, key);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.GET_HEADER, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.GET_HEADER, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record[] getHeader(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        long start = System.nanoTime();
+        Record[] result;
+        try {
+            result = delegate.getHeader(policy, keys);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.BATCH_GET_HEADER, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.BATCH_GET_HEADER, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record operate(Policy policy, Key key, Operation... operations)
+            throws AerospikeException {
+        long start = System.nanoTime();
+        Record result;
+        try {
+            result = delegate.operate(policy, key, operations);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.OPERATE, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.OPERATE, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Record[] operate(BatchPolicy policy, Key[] keys,
+                            Operation... operations) throws AerospikeException {
+        long start = System.nanoTime();
+        Record[] result;
+        try {
+            result = delegate.operate(policy, keys, operations);
+        } catch (RuntimeException | Error e) {
+            metrics.recordReadFailure(ReaderCall.BATCH_OPERATE, e,
+                    System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordRead(ReaderCall.BATCH_OPERATE, System.nanoTime() - start);
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An {@link InboundMessageTransformer} recording the outcome of every
+ * transform of a delegate transformer, and the latency of a random sample of
+ * them, in {@link TransformerMetrics}.
+ *
+ * <p>
+ * Reading the clock twice costs more than the rest of the recording, so by
+ * default one transform in {@value #DEFAULT_TIMING_INTERVAL} is timed and
+ * the others are recorded with {@link TransformerMetrics#NOT_TIMED}. The
+ * latency quantiles of the sample estimate those of all transforms. Pass an
+ * interval of 1 to time every transform.
+ * </p>
+ *
+ * <p>
+ * Reads of the delegate are measured separately by passing it a
+ * {@link MeteredAerospikeReader}, the transform latency includes them.
+ * </p>
+ *
+ * @param <T> incoming message type
+ */
+public class MeteredInboundMessageTransformer<T>
+        implements InboundMessageTransformer<T> {
+    /**
+     * Default number of transforms per timed transform.
+     */
+    public static final int DEFAULT_TIMING_INTERVAL = 16;
+
+    /**
+     * The transformer to measure.
+     */
+    private final InboundMessageTransformer<T> delegate;
+
+    /**
+     * Where the measurements are recorded.
+     */
+    private final TransformerMetrics metrics;
+
+    /**
+     * The timing interval minus one, a transform is timed when the masked
+     * bits of a random number are zero.
+     */
+    private final int timingMask;
+
+    /**
+     * Create a metered transformer timing one transform in
+     * {@value #DEFAULT_TIMING_INTERVAL}.
+     *
+     * @param delegate the transformer to measure.
+     * @param metrics  where the measurements are recorded.
+     */
+    public MeteredInboundMessageTransformer(
+            InboundMessageTransformer<T> delegate, TransformerMetrics metrics) {
+        this(delegate, metrics, DEFAULT_TIMING_INTERVAL);
+    }
+
+    /**
+     * Create a metered transformer.
+     *
+     * @param delegate       the transformer to measure.
+     * @param metrics        where the measurements are recorded.
+     * @param timingInterval the average number of transforms per timed
+     *                       transform, a power of two.
+     */
+    public MeteredInboundMessageTransformer(
+            InboundMessageTransformer<T> delegate, TransformerMetrics metrics,
+            int timingInterval) {
+        if (timingInterval < 1 || Integer.bitCount(timingInterval) != 1) {
+            throw new IllegalArgumentException(
+                    "timingInterval must be a positive power of two");
+        }
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.timingMask = timingInterval - 1;
+    }
+
+    /**
+     * Measure a transformer unless the metrics are
+     * {@link NoopTransformerMetrics}.
+     *
+     * @param transformer the transformer to measure.
+     * @param metrics     where the measurements are recorded.
+     * @param <T>         incoming message type
+     * @return the transformer itself for no-op metrics, a metered transformer
+     * otherwise.
+     */
+    public static <T> InboundMessageTransformer<T> of(
+            InboundMessageTransformer<T> transformer,
+            TransformerMetrics metrics) {
+        return of(transformer, metrics, DEFAULT_TIMING_INTERVAL);
+    }
+
+    /**
+     * Measure a transformer unless the metrics are
+     * {@link NoopTransformerMetrics}.
+     *
+     * @param transformer    the transformer to measure.
+     * @param metrics        where the measurements are recorded.
+     * @param timingInterval the average number of transforms per timed
+     *                       transform, a power of two.
+     * @param <T>            incoming message type
+     * @return the transformer itself for no-op metrics, a metered transformer
+     * otherwise.
+     */
+    public static <T> InboundMessageTransformer<T> of(
+            InboundMessageTransformer<T> transformer,
+            TransformerMetrics metrics, int timingInterval) {
+        return metrics == NoopTransformerMetrics.INSTANCE ? transformer :
+                new MeteredInboundMessageTransformer<>(transformer, metrics,
+                        timingInterval);
+    }
+
+    @Override
+    public AerospikeRecordOperation transform(T input) {
+        if ((ThreadLocalRandom.current().nextInt() & timingMask) != 0) {
+            AerospikeRecordOperation operation;
+            try {
+                operation = delegate.transform(input);
+            } catch (RuntimeException | Error e) {
+                metrics.recordTransformFailure(e, TransformerMetrics.NOT_TIMED);
+                throw e;
+            }
+            metrics.recordTransform(operation, TransformerMetrics.NOT_TIMED);
+            return operation;
+        }
+
+        long start = System.nanoTime();
+        AerospikeRecordOperation operation;
+        try {
+            operation = delegate.transform(input);
+        } catch (RuntimeException | Error e) {
+            metrics.recordTransformFailure(e, System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordTransform(operation, System.nanoTime() - start);
+        return operation;
+    }
+}
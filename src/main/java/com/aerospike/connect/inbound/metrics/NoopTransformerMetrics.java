@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+/**
+ * {@link TransformerMetrics} discarding all measurements.
+ * {@link MeteredInboundMessageTransformer#of} and
+ * {@link MeteredAerospikeReader#of} do not wrap at all for it, so disabled
+ * metrics do not even read the clock.
+ */
+public final class NoopTransformerMetrics implements TransformerMetrics {
+    /**
+     * The instance.
+     */
+    public static final NoopTransformerMetrics INSTANCE =
+            new NoopTransformerMetrics();
+
+    private NoopTransformerMetrics() {
+    }
+
+    @Override
+    public void recordTransform(AerospikeRecordOperation operation,
+                                long nanos) {
+    }
+
+    @Override
+    public void recordTransformFailure(Throwable error, long nanos) {
+    }
+
+    @Override
+    public void recordRead(ReaderCall call, long nanos) {
+    }
+
+    @Override
+    public void recordReadFailure(ReaderCall call, Throwable error,
+                                  long nanos) {
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+
+import java.util.List;
+
+/**
+ * The calls of an {@link AerospikeReader} measured by
+ * {@link TransformerMetrics}.
+ */
+public enum ReaderCall {
+    /**
+     * {@link AerospikeReader#get(Policy, Key)},
+     * {@link AerospikeReader#get(Policy, Key, String...)} and the deprecated
+     * {@link AerospikeReader#getRecord(Key)}.
+     */
+    GET,
+
+    /**
+     * {@link AerospikeReader#get(BatchPolicy, List)}, a batch of
+     * {@link BatchRead}.
+     */
+    BATCH_READ,
+
+    /**
+     * {@link AerospikeReader#get(BatchPolicy, Key[])} and
+     * {@link AerospikeReader#get(BatchPolicy, Key[], String...)}.
+     */
+    BATCH_GET,
+
+    /**
+     * {@link AerospikeReader#exists(Policy, Key)}.
+     */
+    EXISTS,
+
+    /**
+     * {@link AerospikeReader#exists(BatchPolicy, Key[])}.
+     */
+    BATCH_EXISTS,
+
+    /**
+     * {@link AerospikeReader#getHeader(Policy, Key)}.
+     */
+    GET_HEADER,
+
+    /**
+     * {@link AerospikeReader#getHeader(BatchPolicy, Key[])}.
+     */
+    BATCH_GET_HEADER,
+
+    /**
+     * {@link AerospikeReader#operate(Policy, Key,
+     * com.aerospike.client.Operation...)}.
+     */
+    OPERATE,
+
+    /**
+     * {@link AerospikeReader#operate(BatchPolicy, Key[],
+     * com.aerospike.client.Operation...)}.
+     */
+    BATCH_OPERATE
+}
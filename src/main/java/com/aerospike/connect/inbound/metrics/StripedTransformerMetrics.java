@@ -0,0 +1,240 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TransformerMetrics} kept in memory with lock-free, striped counters
+ * and {@link LatencyHistogram}s, for exporting to a monitoring system or
+ * logging periodically.
+ *
+ * <p>
+ * It counts the operations returned per operation class, the skipped
+ * messages and the exceptions per exception class, and records the latency of
+ * transforms and of every {@link ReaderCall}. Recording a transform updates
+ * the striped counter of its operation class, and the transform latencies if
+ * it was timed. The message and skip counts are summed from the operation
+ * counts when read. Recording does not allocate once every operation and
+ * exception class has been seen.
+ * </p>
+ */
+public class StripedTransformerMetrics implements TransformerMetrics {
+    /**
+     * Transforms which returned null instead of an operation.
+     */
+    private final LongAdder nullOperations = new LongAdder();
+
+    private final LongAdder transformFailures = new LongAdder();
+
+    /**
+     * Count of the operations returned by operation class.
+     */
+    private final ConcurrentHashMap<Class<?>, LongAdder> operationCounts =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Count of the exceptions thrown by the transformer and the reader by
+     * exception class.
+     */
+    private final ConcurrentHashMap<Class<?>, LongAdder> exceptionCounts =
+            new ConcurrentHashMap<>();
+
+    private final LatencyHistogram transformLatencies = new LatencyHistogram();
+
+    /**
+     * Latencies per {@link ReaderCall} ordinal, successful or not.
+     */
+    private final LatencyHistogram[] readLatencies =
+            new LatencyHistogram[ReaderCall.values().length];
+
+    /**
+     * Failures per {@link ReaderCall} ordinal.
+     */
+    private final LongAdder[] readFailures =
+            new LongAdder[ReaderCall.values().length];
+
+    /**
+     * Create empty metrics.
+     */
+    public StripedTransformerMetrics() {
+        for (int i = 0; i < readLatencies.length; i++) {
+            readLatencies[i] = new LatencyHistogram();
+            readFailures[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void recordTransform(AerospikeRecordOperation operation,
+                                long nanos) {
+        if (operation == null) {
+            nullOperations.increment();
+        } else {
+            increment(operationCounts, operation.getClass());
+        }
+        if (nanos != NOT_TIMED) {
+            transformLatencies.record(nanos);
+        }
+    }
+
+    @Override
+    public void recordTransformFailure(Throwable error, long nanos) {
+        transformFailures.increment();
+        if (nanos != NOT_TIMED) {
+            transformLatencies.record(nanos);
+        }
+        increment(exceptionCounts, error.getClass());
+    }
+
+    @Override
+    public void recordRead(ReaderCall call, long nanos) {
+        readLatencies[call.ordinal()].record(nanos);
+    }
+
+    @Override
+    public void recordReadFailure(ReaderCall call, Throwable error,
+                                  long nanos) {
+        readLatencies[call.ordinal()].record(nanos);
+        readFailures[call.ordinal()].increment();
+        increment(exceptionCounts, error.getClass());
+    }
+
+    /**
+     * Get the number of messages transformed, including the failed
+     * transforms.
+     *
+     * @return the message count.
+     */
+    public long getMessageCount() {
+        long count = nullOperations.sum() + transformFailures.sum();
+        for (LongAdder operations : operationCounts.values()) {
+            count += operations.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of messages skipped with an
+     * {@link AerospikeSkipRecordOperation}.
+     *
+     * @return the skip count.
+     */
+    public long getSkipCount() {
+        long count = 0;
+        for (Map.Entry<Class<?>, LongAdder> operations :
+                operationCounts.entrySet()) {
+            if (AerospikeSkipRecordOperation.class.isAssignableFrom(
+                    operations.getKey())) {
+                count += operations.getValue().sum();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the fraction of the messages skipped.
+     *
+     * @return the skip rate between 0 and 1, 0 if no message was transformed.
+     */
+    public double getSkipRate() {
+        long messageCount = getMessageCount();
+        return messageCount == 0 ? 0 : (double) getSkipCount() / messageCount;
+    }
+
+    /**
+     * Get the number of transforms which threw an exception.
+     *
+     * @return the failure count.
+     */
+    public long getTransformFailureCount() {
+        return transformFailures.sum();
+    }
+
+    /**
+     * Get the number of operations returned by operation class.
+     *
+     * @return a copy of the counts.
+     */
+    public Map<Class<?>, Long> getOperationCounts() {
+        return sums(operationCounts);
+    }
+
+    /**
+     * Get the number of exceptions thrown by the transformer and the reader
+     * by exception class.
+     *
+     * @return a copy of the counts.
+     */
+    public Map<Class<?>, Long> getExceptionCounts() {
+        return sums(exceptionCounts);
+    }
+
+    /**
+     * Get the latencies of the timed transforms, including the failed ones.
+     *
+     * @return a snapshot of the transform latencies.
+     */
+    public LatencySnapshot getTransformLatencies() {
+        return transformLatencies.snapshot();
+    }
+
+    /**
+     * Get the latencies of a reader call, including the failed calls.
+     *
+     * @param call the reader call.
+     * @return a snapshot of the latencies of the call.
+     */
+    public LatencySnapshot getReadLatencies(ReaderCall call) {
+        return readLatencies[call.ordinal()].snapshot();
+    }
+
+    /**
+     * Get the number of calls of a reader call which threw an exception.
+     *
+     * @param call the reader call.
+     * @return the failure count.
+     */
+    public long getReadFailureCount(ReaderCall call) {
+        return readFailures[call.ordinal()].sum();
+    }
+
+    private static void increment(ConcurrentHashMap<Class<?>, LongAdder> counts,
+                                  Class<?> type) {
+        // Look up before computeIfAbsent which locks the bin on some
+        // runtimes even when the key is present.
+        LongAdder count = counts.get(type);
+        if (count == null) {
+            count = counts.computeIfAbsent(type, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    private static Map<Class<?>, Long> sums(Map<Class<?>, LongAdder> counts) {
+        Map<Class<?>, Long> sums = new LinkedHashMap<>();
+        counts.forEach((type, count) -> sums.put(type, count.sum()));
+        return Collections.unmodifiableMap(sums);
+    }
+}
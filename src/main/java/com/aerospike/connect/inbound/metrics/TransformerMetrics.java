@@ -0,0 +1,80 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+
+/**
+ * Receives the measurements of an {@link InboundMessageTransformer} and the
+ * {@link AerospikeReader} it reads with.
+ *
+ * <p>
+ * Wrap the transformer in a {@link MeteredInboundMessageTransformer} and the
+ * reader in a {@link MeteredAerospikeReader} to feed an implementation, use
+ * an instance per topic or transformer to tell them apart.
+ * {@link StripedTransformerMetrics} keeps counters and latency histograms in
+ * memory, {@link NoopTransformerMetrics} discards everything. Implementations
+ * are called on the threads transforming messages, concurrently, and must not
+ * block.
+ * </p>
+ */
+public interface TransformerMetrics {
+    /**
+     * The time recorded for a transform which was counted but not timed, see
+     * {@link MeteredInboundMessageTransformer}.
+     */
+    long NOT_TIMED = -1;
+
+    /**
+     * Record a message transformed.
+     *
+     * @param operation the operation returned by the transformer.
+     * @param nanos     the time the transform took in nanoseconds, or
+     *                  {@link #NOT_TIMED}.
+     */
+    void recordTransform(AerospikeRecordOperation operation, long nanos);
+
+    /**
+     * Record a transform which threw an exception.
+     *
+     * @param error the exception thrown by the transformer.
+     * @param nanos the time until the transform failed in nanoseconds, or
+     *              {@link #NOT_TIMED}.
+     */
+    void recordTransformFailure(Throwable error, long nanos);
+
+    /**
+     * Record a call of the reader.
+     *
+     * @param call  the reader call.
+     * @param nanos the time the call took in nanoseconds.
+     */
+    void recordRead(ReaderCall call, long nanos);
+
+    /**
+     * Record a call of the reader which threw an exception.
+     *
+     * @param call  the reader call.
+     * @param error the exception thrown by the reader.
+     * @param nanos the time until the call failed in nanoseconds.
+     */
+    void recordReadFailure(ReaderCall call, Throwable error, long nanos);
+}
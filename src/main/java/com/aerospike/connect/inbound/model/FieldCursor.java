@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streams over the top level fields of an undecoded {@link RawPayload}
+ * without materializing them.
+ *
+ * <p>
+ * The cursor is positioned before the first field, {@link #next()} moves it
+ * to the next field. The implementation is provided by the Aerospike inbound
+ * connector for the format of the payload, like JSON or Avro.
+ * </p>
+ */
+public interface FieldCursor {
+    /**
+     * Move to the next field.
+     *
+     * @return false if there are no more fields.
+     */
+    boolean next();
+
+    /**
+     * Get the name of the current field. It is only valid until the next
+     * call to {@link #next()}.
+     *
+     * @return the name of the current field.
+     */
+    CharSequence getFieldName();
+
+    /**
+     * Get the encoded value of the current field, in the format of the
+     * payload.
+     *
+     * @return a read-only view of the bytes of the value in the payload.
+     */
+    ByteBuffer getValue();
+}
@@ -0,0 +1,204 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The ordered field names of the messages of a stream, which lets a
+ * transformer resolve the fields it reads to {@link FieldSlot}s once instead
+ * of looking up the field names in every message.
+ *
+ * <pre>{@code
+ * private static final FieldSchema SCHEMA = FieldSchema.of("name", "age");
+ * private static final FieldSlot NAME = SCHEMA.slot("name");
+ *
+ * public AerospikeRecordOperation transform(InboundMessage<Object, Object> input) {
+ *     String name = (String) input.get(NAME);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Messages whose fields are a {@link SchemaFieldMap} of the same schema are
+ * read by index, other messages fall back to a lookup by field name.
+ * </p>
+ */
+public final class FieldSchema {
+    /**
+     * The field names in slot order.
+     */
+    private final List<String> fieldNames;
+
+    /**
+     * The slots by field name.
+     */
+    private final Map<String, FieldSlot> slots;
+
+    /**
+     * The slots in slot order.
+     */
+    private final List<FieldSlot> slotList;
+
+    private FieldSchema(List<String> fieldNames, List<FieldType> fieldTypes) {
+        this.fieldNames = Collections.unmodifiableList(fieldNames);
+        this.slots = new HashMap<>();
+        List<FieldSlot> orderedSlots = new ArrayList<>(fieldNames.size());
+        for (int i = 0; i < fieldNames.size(); i++) {
+            FieldSlot slot = new FieldSlot(this, i, fieldNames.get(i),
+                    fieldTypes.get(i));
+            orderedSlots.add(slot);
+            if (slots.put(fieldNames.get(i), slot) != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate field name " + fieldNames.get(i));
+            }
+        }
+        this.slotList = Collections.unmodifiableList(orderedSlots);
+    }
+
+    /**
+     * Create a schema of {@link FieldType#OBJECT} fields.
+     *
+     * @param fieldNames the distinct field names, in slot order.
+     * @return a new schema.
+     */
+    public static FieldSchema of(String... fieldNames) {
+        return of(Arrays.asList(fieldNames));
+    }
+
+    /**
+     * Create a schema of {@link FieldType#OBJECT} fields.
+     *
+     * @param fieldNames the distinct field names, in slot order.
+     * @return a new schema.
+     */
+    public static FieldSchema of(List<String> fieldNames) {
+        return new FieldSchema(new ArrayList<>(fieldNames),
+                Collections.nCopies(fieldNames.size(), FieldType.OBJECT));
+    }
+
+    /**
+     * Create a builder of a schema with typed fields.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the slot of a field.
+     *
+     * @param fieldName the name of the field.
+     * @return the slot of the field.
+     * @throws IllegalArgumentException if the schema has no such field.
+     */
+    public FieldSlot slot(String fieldName) {
+        FieldSlot slot = slots.get(fieldName);
+        if (slot == null) {
+            throw new IllegalArgumentException(
+                    "Unknown field name " + fieldName);
+        }
+        return slot;
+    }
+
+    /**
+     * Get the index of a field.
+     *
+     * @param fieldName the name of the field.
+     * @return the index of the field, -1 if the schema has no such field.
+     */
+    public int indexOf(Object fieldName) {
+        FieldSlot slot = slots.get(fieldName);
+        return slot == null ? -1 : slot.getIndex();
+    }
+
+    /**
+     * Get the field names.
+     *
+     * @return the field names in slot order.
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Get the slots.
+     *
+     * @return the slots of all fields in slot order.
+     */
+    public List<FieldSlot> getSlots() {
+        return slotList;
+    }
+
+    /**
+     * Get the number of fields.
+     *
+     * @return the number of fields.
+     */
+    public int size() {
+        return fieldNames.size();
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSchema" + fieldNames;
+    }
+
+    /**
+     * Builds a {@link FieldSchema} with typed fields.
+     */
+    public static final class Builder {
+        private final List<String> fieldNames = new ArrayList<>();
+
+        private final List<FieldType> fieldTypes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a field in the next slot.
+         *
+         * @param fieldName the name of the field.
+         * @param fieldType the type of the field.
+         * @return this builder.
+         */
+        public Builder field(String fieldName, FieldType fieldType) {
+            fieldNames.add(Objects.requireNonNull(fieldName, "fieldName"));
+            fieldTypes.add(Objects.requireNonNull(fieldType, "fieldType"));
+            return this;
+        }
+
+        /**
+         * Build the schema.
+         *
+         * @return a new schema.
+         */
+        public FieldSchema build() {
+            return new FieldSchema(new ArrayList<>(fieldNames),
+                    new ArrayList<>(fieldTypes));
+        }
+    }
+}
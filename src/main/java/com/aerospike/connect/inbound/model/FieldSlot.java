@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import lombok.Getter;
+
+/**
+ * A field of a {@link FieldSchema} resolved to its index, read with
+ * {@link InboundMessage#get(FieldSlot)}.
+ */
+@Getter
+public final class FieldSlot {
+    /**
+     * The schema of the field.
+     */
+    private final FieldSchema schema;
+
+    /**
+     * The index of the field in the schema.
+     */
+    private final int index;
+
+    /**
+     * The name of the field.
+     */
+    private final String name;
+
+    /**
+     * The type of the field.
+     */
+    private final FieldType type;
+
+    FieldSlot(FieldSchema schema, int index, String name, FieldType type) {
+        this.schema = schema;
+        this.index = index;
+        this.name = name;
+        this.type = type;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSlot(" + name + "@" + index + ")";
+    }
+}
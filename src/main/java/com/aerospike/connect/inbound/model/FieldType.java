@@ -0,0 +1,45 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+/**
+ * The type of a field of a {@link FieldSchema}, which decides how the field
+ * is stored in an {@link InboundMessageBatch} column.
+ */
+public enum FieldType {
+    /**
+     * Any value, stored as an object.
+     */
+    OBJECT,
+
+    /**
+     * An integer, stored as a long.
+     */
+    LONG,
+
+    /**
+     * A floating point number, stored as a double.
+     */
+    DOUBLE,
+
+    /**
+     * A boolean.
+     */
+    BOOLEAN
+}
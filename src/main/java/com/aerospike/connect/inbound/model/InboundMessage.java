@@ -24,6 +24,7 @@ import com.aerospike.connect.inbound.operation.AerospikeSingleRecordOperation;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
@@ -85,7 +86,8 @@ public class InboundMessage<K, M> {
 
     /**
      * Fields extracted from the message as per the bins config specified
-     * for the Aerospike inbound connector.
+     * for the Aerospike inbound connector. It may be a {@link LazyFieldMap}
+     * which decodes the fields on first access.
      */
     private final Map<String, Object> fields;
 
@@ -95,6 +97,13 @@ public class InboundMessage<K, M> {
     @Nonnull
     private final Set<Integer> ignoreErrorCodes;
 
+    /**
+     * The undecoded payload of the message. It will be present only if the
+     * Aerospike inbound connector provides it for the format of the message.
+     */
+    @Nullable
+    private final RawPayload rawPayload;
+
     /**
      * Default constructor with comment to suppress javadoc warning.
      */
@@ -102,6 +111,50 @@ public class InboundMessage<K, M> {
         throw new IllegalStateException("Cannot create InboundMessage");
     }
 
+    /**
+     * Create a message whose fields are decoded on first access, see
+     * {@link LazyFieldMap}.
+     *
+     * @param messageKey       the key of the message, null if it has none.
+     * @param message          the un-parsed raw message.
+     * @param key              the Aerospike record key, null if not
+     *                         extracted.
+     * @param writePolicy      the Aerospike write policy, null if not
+     *                         extracted.
+     * @param fieldNames       the names of the fields of the message.
+     * @param fieldDecoder     decodes the value of a field given its name.
+     * @param ignoreErrorCodes error codes to be ignored.
+     */
+    public InboundMessage(@Nullable K messageKey, M message, @Nullable Key key,
+                          @Nullable WritePolicy writePolicy,
+                          Set<String> fieldNames,
+                          Function<String, Object> fieldDecoder,
+                          @Nonnull Set<Integer> ignoreErrorCodes) {
+        this(messageKey, message, key, writePolicy,
+                new LazyFieldMap(fieldNames, fieldDecoder), ignoreErrorCodes,
+                null);
+    }
+
+    /**
+     * Create a message without a raw payload.
+     *
+     * @param messageKey       the key of the message, null if it has none.
+     * @param message          the un-parsed raw message.
+     * @param key              the Aerospike record key, null if not
+     *                         extracted.
+     * @param writePolicy      the Aerospike write policy, null if not
+     *                         extracted.
+     * @param fields           the fields extracted from the message.
+     * @param ignoreErrorCodes error codes to be ignored.
+     */
+    public InboundMessage(@Nullable K messageKey, M message, @Nullable Key key,
+                          @Nullable WritePolicy writePolicy,
+                          Map<String, Object> fields,
+                          @Nonnull Set<Integer> ignoreErrorCodes) {
+        this(messageKey, message, key, writePolicy, fields, ignoreErrorCodes,
+                null);
+    }
+
     /**
      * Return the key of the message. Is present only if the external system
      * associates a key with the message.
@@ -117,6 +170,136 @@ public class InboundMessage<K, M> {
         return Optional.ofNullable(messageKey);
     }
 
+    /**
+     * Return the value of a field resolved with a {@link FieldSchema}. It is
+     * read by index if the fields are a {@link SchemaFieldMap} of the same
+     * schema, and looked up by field name otherwise.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field, null if absent.
+     */
+    @Nullable
+    public Object get(FieldSlot slot) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).get(slot);
+        }
+        return fields.get(slot.getName());
+    }
+
+    /**
+     * Return the value of a numeric field as a long, without boxing if the
+     * fields are a {@link SchemaFieldMap}.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field.
+     * @throws java.util.NoSuchElementException if the field is absent.
+     * @throws ClassCastException               if the field is not numeric.
+     */
+    public long getLong(String fieldName) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).getLong(fieldName);
+        }
+        return SchemaFieldMap.toLong(fieldName, fields.get(fieldName));
+    }
+
+    /**
+     * Return the value of a numeric field as a long, see
+     * {@link #get(FieldSlot)}.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws java.util.NoSuchElementException if the field is absent.
+     * @throws ClassCastException               if the field is not numeric.
+     */
+    public long getLong(FieldSlot slot) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).getLong(slot);
+        }
+        return SchemaFieldMap.toLong(slot.getName(), fields.get(slot.getName()));
+    }
+
+    /**
+     * Return the value of a numeric field as a double, without boxing if the
+     * fields are a {@link SchemaFieldMap}.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field.
+     * @throws java.util.NoSuchElementException if the field is absent.
+     * @throws ClassCastException               if the field is not numeric.
+     */
+    public double getDouble(String fieldName) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).getDouble(fieldName);
+        }
+        return SchemaFieldMap.toDouble(fieldName, fields.get(fieldName));
+    }
+
+    /**
+     * Return the value of a numeric field as a double, see
+     * {@link #get(FieldSlot)}.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws java.util.NoSuchElementException if the field is absent.
+     * @throws ClassCastException               if the field is not numeric.
+     */
+    public double getDouble(FieldSlot slot) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).getDouble(slot);
+        }
+        return SchemaFieldMap.toDouble(slot.getName(),
+                fields.get(slot.getName()));
+    }
+
+    /**
+     * Return the value of a boolean field, without boxing if the fields are a
+     * {@link SchemaFieldMap}.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field.
+     * @throws java.util.NoSuchElementException if the field is absent.
+     * @throws ClassCastException               if the field is not a boolean.
+     */
+    public boolean getBoolean(String fieldName) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).getBoolean(fieldName);
+        }
+        return SchemaFieldMap.toBoolean(fieldName, fields.get(fieldName));
+    }
+
+    /**
+     * Return the value of a boolean field, see {@link #get(FieldSlot)}.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws java.util.NoSuchElementException if the field is absent.
+     * @throws ClassCastException               if the field is not a boolean.
+     */
+    public boolean getBoolean(FieldSlot slot) {
+        if (fields instanceof SchemaFieldMap) {
+            return ((SchemaFieldMap) fields).getBoolean(slot);
+        }
+        return SchemaFieldMap.toBoolean(slot.getName(),
+                fields.get(slot.getName()));
+    }
+
+    /**
+     * Return the value of a bytes field.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field, null if absent.
+     * @throws ClassCastException if the field is not a byte array.
+     */
+    @Nullable
+    public byte[] getBytes(String fieldName) {
+        Object value = fields.get(fieldName);
+        if (value != null && !(value instanceof byte[])) {
+            throw new ClassCastException("Field " + fieldName +
+                    " is not a byte array: " + value.getClass().getName());
+        }
+        return (byte[]) value;
+    }
+
     /**
      * Return the Aerospike record key extracted from the message by the
      * Aerospike inbound connector. It will be present only if the Aerospike
@@ -129,6 +312,17 @@ public class InboundMessage<K, M> {
         return Optional.ofNullable(key);
     }
 
+    /**
+     * Return the undecoded payload of the message. It will be present only if
+     * the Aerospike inbound connector provides it for the format of the
+     * message.
+     *
+     * @return An optional {@link RawPayload}.
+     */
+    public Optional<RawPayload> getRawPayload() {
+        return Optional.ofNullable(rawPayload);
+    }
+
     /**
      * Return the Aerospike write policy generated from the message by the
      * Aerospike inbound connector. It will be present only if the Aerospike
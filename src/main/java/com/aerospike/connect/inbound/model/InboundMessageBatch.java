@@ -0,0 +1,531 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * The messages of a poll as columns, one array per field of a
+ * {@link FieldSchema} plus the key, write policy and message columns.
+ *
+ * <p>
+ * {@link FieldType#LONG}, {@link FieldType#DOUBLE} and
+ * {@link FieldType#BOOLEAN} fields are stored in primitive arrays, so a
+ * transformer can process a field of the whole batch in a loop over an
+ * array. The column arrays are shared, not copied, they must not be
+ * modified and may be longer than {@link #size()}.
+ * </p>
+ *
+ * @param <K> type of message key.
+ * @param <M> type of message.
+ */
+public final class InboundMessageBatch<K, M> {
+    /**
+     * The schema of the field columns.
+     */
+    private final FieldSchema schema;
+
+    /**
+     * The number of messages.
+     */
+    private final int size;
+
+    private final Object[] messageKeys;
+
+    private final Object[] messages;
+
+    private final Key[] keys;
+
+    private final WritePolicy[] writePolicies;
+
+    private final Object[] ignoreErrorCodes;
+
+    /**
+     * The field columns indexed by slot, an array of the type of the field.
+     */
+    private final Object[] columns;
+
+    /**
+     * The rows where a primitive field is present, indexed by slot. Null for
+     * object fields.
+     */
+    private final BitSet[] present;
+
+    private InboundMessageBatch(Builder<K, M> builder) {
+        this.schema = builder.schema;
+        this.size = builder.size;
+        this.messageKeys = builder.messageKeys;
+        this.messages = builder.messages;
+        this.keys = builder.keys;
+        this.writePolicies = builder.writePolicies;
+        this.ignoreErrorCodes = builder.ignoreErrorCodes;
+        this.columns = builder.columns;
+        this.present = builder.present;
+    }
+
+    /**
+     * Create a builder of a batch.
+     *
+     * @param schema   the schema of the field columns.
+     * @param capacity the expected number of messages.
+     * @param <K>      type of message key.
+     * @param <M>      type of message.
+     * @return a new builder.
+     */
+    public static <K, M> Builder<K, M> builder(FieldSchema schema,
+                                               int capacity) {
+        return new Builder<>(schema, capacity);
+    }
+
+    /**
+     * Convert messages to columns, for connectors which do not build batches
+     * directly.
+     *
+     * @param schema   the schema of the field columns, fields missing from
+     *                 the schema are dropped.
+     * @param messages the messages in the order they were received.
+     * @param <K>      type of message key.
+     * @param <M>      type of message.
+     * @return a new batch.
+     * @throws ClassCastException if a field value does not match the type of
+     *                            its column.
+     */
+    public static <K, M> InboundMessageBatch<K, M> of(
+            FieldSchema schema, List<InboundMessage<K, M>> messages) {
+        Builder<K, M> builder = builder(schema, messages.size());
+        for (InboundMessage<K, M> message : messages) {
+            int row = builder.addRow(message.getMessageKey().orElse(null),
+                    message.getMessage(), message.getKey().orElse(null),
+                    message.getWritePolicy().orElse(null),
+                    message.getIgnoreErrorCodes());
+            for (FieldSlot slot : schema.getSlots()) {
+                Object value = message.get(slot);
+                if (value == null) {
+                    continue;
+                }
+
+                switch (slot.getType()) {
+                    case LONG:
+                        builder.setLong(row, slot,
+                                SchemaFieldMap.toLong(slot.getName(), value));
+                        break;
+                    case DOUBLE:
+                        builder.setDouble(row, slot,
+                                SchemaFieldMap.toDouble(slot.getName(), value));
+                        break;
+                    case BOOLEAN:
+                        builder.setBoolean(row, slot,
+                                SchemaFieldMap.toBoolean(slot.getName(), value));
+                        break;
+                    default:
+                        builder.set(row, slot, value);
+                        break;
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the number of messages.
+     *
+     * @return the number of rows of the batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the schema of the field columns.
+     *
+     * @return the schema of the field columns.
+     */
+    public FieldSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get the column of a {@link FieldType#LONG} field. Absent values are 0,
+     * see {@link #isPresent(FieldSlot, int)}.
+     *
+     * @param slot the slot of the field.
+     * @return the values of the field indexed by row.
+     */
+    public long[] getLongColumn(FieldSlot slot) {
+        return (long[]) column(slot, FieldType.LONG);
+    }
+
+    /**
+     * Get the column of a {@link FieldType#DOUBLE} field. Absent values are
+     * 0, see {@link #isPresent(FieldSlot, int)}.
+     *
+     * @param slot the slot of the field.
+     * @return the values of the field indexed by row.
+     */
+    public double[] getDoubleColumn(FieldSlot slot) {
+        return (double[]) column(slot, FieldType.DOUBLE);
+    }
+
+    /**
+     * Get the column of a {@link FieldType#BOOLEAN} field. Absent values are
+     * false, see {@link #isPresent(FieldSlot, int)}.
+     *
+     * @param slot the slot of the field.
+     * @return the values of the field indexed by row.
+     */
+    public boolean[] getBooleanColumn(FieldSlot slot) {
+        return (boolean[]) column(slot, FieldType.BOOLEAN);
+    }
+
+    /**
+     * Get the column of a {@link FieldType#OBJECT} field. Absent values are
+     * null.
+     *
+     * @param slot the slot of the field.
+     * @return the values of the field indexed by row.
+     */
+    public Object[] getObjectColumn(FieldSlot slot) {
+        return (Object[]) column(slot, FieldType.OBJECT);
+    }
+
+    /**
+     * Whether a field is present in a message.
+     *
+     * @param slot the slot of the field.
+     * @param row  the index of the message.
+     * @return true if the message has a value for the field.
+     */
+    public boolean isPresent(FieldSlot slot, int row) {
+        checkRow(row);
+        Object column = column(slot, slot.getType());
+        BitSet rows = present[slot.getIndex()];
+        return rows != null ? rows.get(row) : ((Object[]) column)[row] != null;
+    }
+
+    /**
+     * Get the Aerospike record key column, see
+     * {@link InboundMessage#getKey()}.
+     *
+     * @return the keys indexed by row, null where absent.
+     */
+    public Key[] getKeyColumn() {
+        return keys;
+    }
+
+    /**
+     * Get the Aerospike write policy column, see
+     * {@link InboundMessage#getWritePolicy()}.
+     *
+     * @return the write policies indexed by row, null where absent.
+     */
+    public WritePolicy[] getWritePolicyColumn() {
+        return writePolicies;
+    }
+
+    /**
+     * Get the key of a message, see {@link InboundMessage#getMessageKey()}.
+     *
+     * @param row the index of the message.
+     * @return the message key, null if absent.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public K getMessageKey(int row) {
+        checkRow(row);
+        return (K) messageKeys[row];
+    }
+
+    /**
+     * Get the un-parsed raw message, see
+     * {@link InboundMessage#getMessage()}.
+     *
+     * @param row the index of the message.
+     * @return the raw message.
+     */
+    @SuppressWarnings("unchecked")
+    public M getMessage(int row) {
+        checkRow(row);
+        return (M) messages[row];
+    }
+
+    /**
+     * Get the error codes to ignore for a message, see
+     * {@link InboundMessage#getIgnoreErrorCodes()}.
+     *
+     * @param row the index of the message.
+     * @return the error codes to ignore.
+     */
+    @SuppressWarnings("unchecked")
+    public Set<Integer> getIgnoreErrorCodes(int row) {
+        checkRow(row);
+        return (Set<Integer>) ignoreErrorCodes[row];
+    }
+
+    /**
+     * Get a message as an {@link InboundMessage}, for code which handles
+     * messages one at a time.
+     *
+     * @param row the index of the message.
+     * @return a new message whose fields are a {@link SchemaFieldMap}.
+     */
+    public InboundMessage<K, M> getRow(int row) {
+        checkRow(row);
+        SchemaFieldMap.Builder fields = SchemaFieldMap.builder(schema);
+        for (FieldSlot slot : schema.getSlots()) {
+            if (!isPresent(slot, row)) {
+                continue;
+            }
+
+            switch (slot.getType()) {
+                case LONG:
+                    fields.setLong(slot, getLongColumn(slot)[row]);
+                    break;
+                case DOUBLE:
+                    fields.setDouble(slot, getDoubleColumn(slot)[row]);
+                    break;
+                case BOOLEAN:
+                    fields.setBoolean(slot, getBooleanColumn(slot)[row]);
+                    break;
+                default:
+                    fields.set(slot, getObjectColumn(slot)[row]);
+                    break;
+            }
+        }
+
+        return new InboundMessage<>(getMessageKey(row), getMessage(row),
+                keys[row], writePolicies[row], fields.build(),
+                getIgnoreErrorCodes(row));
+    }
+
+    private Object column(FieldSlot slot, FieldType type) {
+        if (slot.getSchema() != schema) {
+            throw new IllegalArgumentException(
+                    "Slot " + slot + " is not of " + schema);
+        }
+        if (slot.getType() != type) {
+            throw new IllegalArgumentException(
+                    "Slot " + slot + " is of type " + slot.getType());
+        }
+        return columns[slot.getIndex()];
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Row " + row + " out of " + size);
+        }
+    }
+
+    /**
+     * Builds an {@link InboundMessageBatch} row by row.
+     *
+     * @param <K> type of message key.
+     * @param <M> type of message.
+     */
+    public static final class Builder<K, M> {
+        private final FieldSchema schema;
+
+        private int size;
+
+        private Object[] messageKeys;
+
+        private Object[] messages;
+
+        private Key[] keys;
+
+        private WritePolicy[] writePolicies;
+
+        private Object[] ignoreErrorCodes;
+
+        private final Object[] columns;
+
+        private final BitSet[] present;
+
+        private Builder(FieldSchema schema, int capacity) {
+            this.schema = schema;
+            int initial = Math.max(capacity, 1);
+            this.messageKeys = new Object[initial];
+            this.messages = new Object[initial];
+            this.keys = new Key[initial];
+            this.writePolicies = new WritePolicy[initial];
+            this.ignoreErrorCodes = new Object[initial];
+            this.columns = new Object[schema.size()];
+            this.present = new BitSet[schema.size()];
+            for (FieldSlot slot : schema.getSlots()) {
+                columns[slot.getIndex()] = newColumn(slot.getType(), initial);
+                if (slot.getType() != FieldType.OBJECT) {
+                    present[slot.getIndex()] = new BitSet(initial);
+                }
+            }
+        }
+
+        /**
+         * Add a message without fields.
+         *
+         * @param messageKey       the key of the message, null if it has
+         *                         none.
+         * @param message          the un-parsed raw message.
+         * @param key              the Aerospike record key, null if not
+         *                         extracted.
+         * @param writePolicy      the Aerospike write policy, null if not
+         *                         extracted.
+         * @param ignoreErrorCodes error codes to be ignored.
+         * @return the row of the message.
+         */
+        public int addRow(@Nullable K messageKey, M message, @Nullable Key key,
+                          @Nullable WritePolicy writePolicy,
+                          Set<Integer> ignoreErrorCodes) {
+            if (size == keys.length) {
+                grow();
+            }
+
+            messageKeys[size] = messageKey;
+            messages[size] = message;
+            keys[size] = key;
+            writePolicies[size] = writePolicy;
+            this.ignoreErrorCodes[size] = ignoreErrorCodes;
+            return size++;
+        }
+
+        /**
+         * Set a {@link FieldType#LONG} field of a message.
+         *
+         * @param row   the row of the message.
+         * @param slot  the slot of the field.
+         * @param value the value of the field.
+         * @return this builder.
+         */
+        public Builder<K, M> setLong(int row, FieldSlot slot, long value) {
+            ((long[]) column(row, slot, FieldType.LONG))[row] = value;
+            present[slot.getIndex()].set(row);
+            return this;
+        }
+
+        /**
+         * Set a {@link FieldType#DOUBLE} field of a message.
+         *
+         * @param row   the row of the message.
+         * @param slot  the slot of the field.
+         * @param value the value of the field.
+         * @return this builder.
+         */
+        public Builder<K, M> setDouble(int row, FieldSlot slot, double value) {
+            ((double[]) column(row, slot, FieldType.DOUBLE))[row] = value;
+            present[slot.getIndex()].set(row);
+            return this;
+        }
+
+        /**
+         * Set a {@link FieldType#BOOLEAN} field of a message.
+         *
+         * @param row   the row of the message.
+         * @param slot  the slot of the field.
+         * @param value the value of the field.
+         * @return this builder.
+         */
+        public Builder<K, M> setBoolean(int row, FieldSlot slot,
+                                        boolean value) {
+            ((boolean[]) column(row, slot, FieldType.BOOLEAN))[row] = value;
+            present[slot.getIndex()].set(row);
+            return this;
+        }
+
+        /**
+         * Set a {@link FieldType#OBJECT} field of a message.
+         *
+         * @param row   the row of the message.
+         * @param slot  the slot of the field.
+         * @param value the value of the field, null for absent.
+         * @return this builder.
+         */
+        public Builder<K, M> set(int row, FieldSlot slot,
+                                 @Nullable Object value) {
+            ((Object[]) column(row, slot, FieldType.OBJECT))[row] = value;
+            return this;
+        }
+
+        /**
+         * Build the batch. The builder must not be used afterwards.
+         *
+         * @return a new batch of the rows added.
+         */
+        public InboundMessageBatch<K, M> build() {
+            return new InboundMessageBatch<>(this);
+        }
+
+        private Object column(int row, FieldSlot slot, FieldType type) {
+            if (slot.getSchema() != schema || slot.getType() != type) {
+                throw new IllegalArgumentException(
+                        "Slot " + slot + " is not a " + type + " field of " +
+                                schema);
+            }
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException(
+                        "Row " + row + " out of " + size);
+            }
+            return columns[slot.getIndex()];
+        }
+
+        private void grow() {
+            int capacity = keys.length * 2;
+            messageKeys = Arrays.copyOf(messageKeys, capacity);
+            messages = Arrays.copyOf(messages, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            writePolicies = Arrays.copyOf(writePolicies, capacity);
+            ignoreErrorCodes = Arrays.copyOf(ignoreErrorCodes, capacity);
+            for (FieldSlot slot : schema.getSlots()) {
+                Object column = columns[slot.getIndex()];
+                switch (slot.getType()) {
+                    case LONG:
+                        column = Arrays.copyOf((long[]) column, capacity);
+                        break;
+                    case DOUBLE:
+                        column = Arrays.copyOf((double[]) column, capacity);
+                        break;
+                    case BOOLEAN:
+                        column = Arrays.copyOf((boolean[]) column, capacity);
+                        break;
+                    default:
+                        column = Arrays.copyOf((Object[]) column, capacity);
+                        break;
+                }
+                columns[slot.getIndex()] = column;
+            }
+        }
+
+        private static Object newColumn(FieldType type, int capacity) {
+            switch (type) {
+                case LONG:
+                    return new long[capacity];
+                case DOUBLE:
+                    return new double[capacity];
+                case BOOLEAN:
+                    return new boolean[capacity];
+                default:
+                    return new Object[capacity];
+            }
+        }
+    }
+}
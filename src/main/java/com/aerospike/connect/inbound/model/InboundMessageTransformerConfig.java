@@ -19,6 +19,7 @@
 package com.aerospike.connect.inbound.model;
 
 import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.operation.AerospikeBatchRecordOperation;
 import com.aerospike.connect.inbound.operation.AerospikeCompositeRecordOperation;
 import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -52,11 +53,28 @@ public class InboundMessageTransformerConfig {
     private final Map<String, Object> transformerConfig;
 
     /**
-     * Whether to allow {@link AerospikeCompositeRecordOperation} or not.
+     * Whether to allow {@link AerospikeCompositeRecordOperation} and
+     * {@link AerospikeBatchRecordOperation} or not.
      */
     @JsonProperty("unsafe-composite-record-operations")
     private final boolean unsafeCompositeRecordOperation;
 
+    /**
+     * The threads the message transformer is invoked on. Defaults to
+     * {@link TransformerExecutionMode#PLATFORM}.
+     */
+    @JsonProperty("execution-mode")
+    private final TransformerExecutionMode executionMode;
+
+    /**
+     * Maximum number of messages transformed concurrently. Zero or negative
+     * implies the number of available processors for
+     * {@link TransformerExecutionMode#PLATFORM} and no limit for
+     * {@link TransformerExecutionMode#VIRTUAL}.
+     */
+    @JsonProperty("max-concurrency")
+    private final int maxConcurrency;
+
     /**
      * Private constructor for Jackson.
      */
@@ -64,6 +82,27 @@ public class InboundMessageTransformerConfig {
         inboundMessageTransformerClass = null;
         transformerConfig = null;
         unsafeCompositeRecordOperation = false;
+        executionMode = TransformerExecutionMode.PLATFORM;
+        maxConcurrency = 0;
+    }
+
+    /**
+     * Create a config invoking the transformer on platform threads.
+     *
+     * @param inboundMessageTransformerClass class to be used for converting
+     *                                       inbound messages.
+     * @param transformerConfig              custom parameters to be used by
+     *                                       the message transformer.
+     * @param unsafeCompositeRecordOperation whether to allow composite record
+     *                                       operations or not.
+     */
+    public InboundMessageTransformerConfig(
+            Class<? extends InboundMessageTransformer<?>> inboundMessageTransformerClass,
+            @Nullable Map<String, Object> transformerConfig,
+            boolean unsafeCompositeRecordOperation) {
+        this(inboundMessageTransformerClass, transformerConfig,
+                unsafeCompositeRecordOperation,
+                TransformerExecutionMode.PLATFORM, 0);
     }
 
     /**
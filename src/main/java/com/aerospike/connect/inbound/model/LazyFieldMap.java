@@ -0,0 +1,155 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Read-only fields of an {@link InboundMessage} which are decoded from the
+ * message on first access.
+ *
+ * <p>
+ * The field names are known up front, the value of a field is decoded the
+ * first time it is read and cached for later reads. A transformer which
+ * skips a message after checking one field or reads only a few fields of a
+ * wide message only pays for decoding those fields. Iterating over the
+ * entries or comparing the map decodes all the fields.
+ * </p>
+ *
+ * <p>
+ * It is safe to read from multiple threads, a field read concurrently for
+ * the first time is decoded once.
+ * </p>
+ */
+public class LazyFieldMap extends AbstractMap<String, Object> {
+    /**
+     * Marks a field whose decoded value is null in {@link #decoded}.
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * The names of the fields.
+     */
+    private final Set<String> fieldNames;
+
+    /**
+     * Decodes the value of a field from the message.
+     */
+    private final Function<String, Object> decoder;
+
+    /**
+     * The values of the fields decoded so far.
+     */
+    private final Map<String, Object> decoded;
+
+    /**
+     * Create a field map.
+     *
+     * @param fieldNames the names of the fields of the message.
+     * @param decoder    decodes the value of a field given its name, may
+     *                   return null.
+     */
+    public LazyFieldMap(Set<String> fieldNames,
+                        Function<String, Object> decoder) {
+        this.fieldNames = Collections.unmodifiableSet(
+                Objects.requireNonNull(fieldNames, "fieldNames"));
+        this.decoder = Objects.requireNonNull(decoder, "decoder");
+        this.decoded = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    @Nullable
+    public Object get(Object key) {
+        if (!fieldNames.contains(key)) {
+            return null;
+        }
+
+        Object value = decoded.computeIfAbsent((String) key, name -> {
+            Object fieldValue = decoder.apply(name);
+            return fieldValue == null ? NULL : fieldValue;
+        });
+        return value == NULL ? null : value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return fieldNames.contains(key);
+    }
+
+    @Override
+    public int size() {
+        return fieldNames.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fieldNames.isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return fieldNames;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<String> names = fieldNames.iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return names.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        String name = names.next();
+                        return new SimpleImmutableEntry<>(name, get(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return fieldNames.size();
+            }
+        };
+    }
+
+    /**
+     * Whether a field has been decoded.
+     *
+     * @param fieldName the name of the field.
+     * @return true if the value of the field has been decoded.
+     */
+    public boolean isDecoded(String fieldName) {
+        return decoded.containsKey(fieldName);
+    }
+}
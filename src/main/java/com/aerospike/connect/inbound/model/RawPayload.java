@@ -0,0 +1,198 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Value;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * The undecoded payload of an {@link InboundMessage}, as received from the
+ * external system.
+ *
+ * <p>
+ * Transformers which only route or filter messages can work on the bytes
+ * with {@link #asByteBuffer()} or {@link #cursor()} instead of the decoded
+ * fields, and write the payload as a blob with {@link #asBlobValue()}
+ * without copying it when it is backed by an array.
+ * </p>
+ *
+ * <p>
+ * The bytes are shared with the connector, which does not reuse them until
+ * the operation returned for the message has been written, so values
+ * referring to them can be part of that operation. A transformer must not
+ * modify the bytes, nor keep them once the operation is written.
+ * </p>
+ */
+public final class RawPayload {
+    /**
+     * Read-only view of the payload.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The array backing the payload, null if not array backed.
+     */
+    @Nullable
+    private final byte[] array;
+
+    /**
+     * Offset of the payload in the backing array.
+     */
+    private final int offset;
+
+    /**
+     * Creates a cursor over the fields of the payload, null if the format is
+     * not supported.
+     */
+    @Nullable
+    private final Function<ByteBuffer, FieldCursor> cursorFactory;
+
+    /**
+     * Create a payload backed by an array.
+     *
+     * @param bytes         the array holding the payload.
+     * @param offset        the offset of the payload in the array.
+     * @param length        the length of the payload.
+     * @param cursorFactory creates a cursor over the fields of a read-only
+     *                      view of the payload, null if not supported.
+     */
+    public RawPayload(byte[] bytes, int offset, int length,
+                      @Nullable Function<ByteBuffer, FieldCursor> cursorFactory) {
+        this.buffer = ByteBuffer.wrap(bytes, offset, length).slice()
+                .asReadOnlyBuffer();
+        this.array = bytes;
+        this.offset = offset;
+        this.cursorFactory = cursorFactory;
+    }
+
+    /**
+     * Create a payload from the remaining bytes of a buffer.
+     *
+     * @param buffer        the buffer holding the payload, its position is
+     *                      not modified.
+     * @param cursorFactory creates a cursor over the fields of a read-only
+     *                      view of the payload, null if not supported.
+     */
+    public RawPayload(ByteBuffer buffer,
+                      @Nullable Function<ByteBuffer, FieldCursor> cursorFactory) {
+        this.buffer = buffer.slice().asReadOnlyBuffer();
+        if (buffer.hasArray()) {
+            this.array = buffer.array();
+            this.offset = buffer.arrayOffset() + buffer.position();
+        } else {
+            this.array = null;
+            this.offset = 0;
+        }
+        this.cursorFactory = cursorFactory;
+    }
+
+    /**
+     * Get the payload.
+     *
+     * @return a new read-only view of the payload, positioned at its start.
+     */
+    public ByteBuffer asByteBuffer() {
+        return buffer.duplicate();
+    }
+
+    /**
+     * Get the length of the payload.
+     *
+     * @return the number of bytes of the payload.
+     */
+    public int length() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Whether {@link #cursor()} is supported for the format of the payload.
+     *
+     * @return true if the fields can be streamed.
+     */
+    public boolean hasCursor() {
+        return cursorFactory != null;
+    }
+
+    /**
+     * Create a cursor over the top level fields of the payload.
+     *
+     * @return a new cursor positioned before the first field.
+     * @throws UnsupportedOperationException if the format of the payload is
+     *                                       not supported.
+     */
+    public FieldCursor cursor() {
+        if (cursorFactory == null) {
+            throw new UnsupportedOperationException(
+                    "Payload format does not support field cursors");
+        }
+        return cursorFactory.apply(asByteBuffer());
+    }
+
+    /**
+     * Get the payload as a blob value. It refers to the bytes of the payload
+     * without copying them if they are backed by an array, which stay valid
+     * until the operation of the message is written. Copy the value to use
+     * it in any other operation.
+     *
+     * @return a blob value of the payload.
+     */
+    public Value asBlobValue() {
+        if (array != null) {
+            return Value.get(array, offset, length());
+        }
+
+        byte[] bytes = new byte[length()];
+        asByteBuffer().get(bytes);
+        return Value.get(bytes);
+    }
+
+    /**
+     * Get a bin with the payload as a blob, see {@link #asBlobValue()}.
+     *
+     * @param binName the name of the bin.
+     * @return a new bin.
+     */
+    public Bin asBin(String binName) {
+        return new Bin(binName, asBlobValue());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RawPayload)) {
+            return false;
+        }
+        return buffer.equals(((RawPayload) o).buffer);
+    }
+
+    @Override
+    public int hashCode() {
+        return buffer.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RawPayload(length=" + length() + ")";
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Read-only fields of an {@link InboundMessage} stored in an array indexed by
+ * the slots of a {@link FieldSchema}.
+ *
+ * <p>
+ * A field whose value is null is absent from the map, like a field missing
+ * from the message. Fields set with the primitive setters of {@link Builder}
+ * are stored unboxed and read without allocation with
+ * {@link #getLong(FieldSlot)}, {@link #getDouble(FieldSlot)} and
+ * {@link #getBoolean(FieldSlot)}. They are only boxed when read through the
+ * {@link java.util.Map} methods.
+ * </p>
+ */
+public class SchemaFieldMap extends AbstractMap<String, Object> {
+    private static final byte ABSENT = 0;
+    private static final byte OBJECT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+
+    /**
+     * The schema of the fields.
+     */
+    private final FieldSchema schema;
+
+    /**
+     * The field values indexed by slot, null for absent and primitive
+     * fields.
+     */
+    private final Object[] values;
+
+    /**
+     * The primitive field values indexed by slot, doubles as their raw long
+     * bits and booleans as 0 or 1. Null if there are none.
+     */
+    @Nullable
+    private final long[] primitives;
+
+    /**
+     * The kind of each field indexed by slot. Null if there are no primitive
+     * fields.
+     */
+    @Nullable
+    private final byte[] kinds;
+
+    /**
+     * Create a field map. The array is used as is, it should not be modified
+     * afterwards.
+     *
+     * @param schema the schema of the fields.
+     * @param values the field values indexed by slot, null for absent fields.
+     */
+    public SchemaFieldMap(FieldSchema schema, Object[] values) {
+        this(schema, values, null, null);
+    }
+
+    private SchemaFieldMap(FieldSchema schema, Object[] values,
+                           @Nullable long[] primitives,
+                           @Nullable byte[] kinds) {
+        if (values.length != schema.size()) {
+            throw new IllegalArgumentException("Expected " + schema.size() +
+                    " values, got " + values.length);
+        }
+
+        this.schema = Objects.requireNonNull(schema, "schema");
+        this.values = values;
+        this.primitives = primitives;
+        this.kinds = kinds;
+    }
+
+    /**
+     * Create a builder of field maps with the given schema.
+     *
+     * @param schema the schema of the fields.
+     * @return a new builder.
+     */
+    public static Builder builder(FieldSchema schema) {
+        return new Builder(schema);
+    }
+
+    /**
+     * Get the schema of the fields.
+     *
+     * @return the schema of the fields.
+     */
+    public FieldSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get the value of a field by slot.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field, null if absent.
+     */
+    @Nullable
+    public Object get(FieldSlot slot) {
+        return slot.getSchema() == schema ? value(slot.getIndex()) :
+                get(slot.getName());
+    }
+
+    /**
+     * Get the value of a numeric field as a long.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not numeric.
+     */
+    public long getLong(FieldSlot slot) {
+        return longAt(index(slot), slot.getName());
+    }
+
+    /**
+     * Get the value of a numeric field as a long.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not numeric.
+     */
+    public long getLong(String fieldName) {
+        return longAt(schema.indexOf(fieldName), fieldName);
+    }
+
+    /**
+     * Get the value of a numeric field as a double.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not numeric.
+     */
+    public double getDouble(FieldSlot slot) {
+        return doubleAt(index(slot), slot.getName());
+    }
+
+    /**
+     * Get the value of a numeric field as a double.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not numeric.
+     */
+    public double getDouble(String fieldName) {
+        return doubleAt(schema.indexOf(fieldName), fieldName);
+    }
+
+    /**
+     * Get the value of a boolean field.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not a boolean.
+     */
+    public boolean getBoolean(FieldSlot slot) {
+        return booleanAt(index(slot), slot.getName());
+    }
+
+    /**
+     * Get the value of a boolean field.
+     *
+     * @param fieldName the name of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not a boolean.
+     */
+    public boolean getBoolean(String fieldName) {
+        return booleanAt(schema.indexOf(fieldName), fieldName);
+    }
+
+    @Override
+    @Nullable
+    public Object get(Object key) {
+        int index = schema.indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = schema.indexOf(key);
+        return index >= 0 && isPresent(index);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int next = advance(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(
+                                schema.getFieldNames().get(next), value(next));
+                        next = advance(next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (int i = 0; i < values.length; i++) {
+                    if (isPresent(i)) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Get the index of a slot in this map, or -1 if the field is not in the
+     * schema.
+     */
+    private int index(FieldSlot slot) {
+        return slot.getSchema() == schema ? slot.getIndex() :
+                schema.indexOf(slot.getName());
+    }
+
+    private long longAt(int index, String fieldName) {
+        if (index >= 0 && kinds != null && primitives != null) {
+            switch (kinds[index]) {
+                case LONG:
+                    return primitives[index];
+                case DOUBLE:
+                    return (long) Double.longBitsToDouble(primitives[index]);
+                default:
+                    break;
+            }
+        }
+        return toLong(fieldName, value(index));
+    }
+
+    private double doubleAt(int index, String fieldName) {
+        if (index >= 0 && kinds != null && primitives != null) {
+            switch (kinds[index]) {
+                case LONG:
+                    return primitives[index];
+                case DOUBLE:
+                    return Double.longBitsToDouble(primitives[index]);
+                default:
+                    break;
+            }
+        }
+        return toDouble(fieldName, value(index));
+    }
+
+    private boolean booleanAt(int index, String fieldName) {
+        if (index >= 0 && kinds != null && primitives != null &&
+                kinds[index] == BOOLEAN) {
+            return primitives[index] != 0;
+        }
+        return toBoolean(fieldName, value(index));
+    }
+
+    @Nullable
+    private Object value(int index) {
+        if (index < 0) {
+            return null;
+        }
+
+        if (kinds != null && primitives != null) {
+            switch (kinds[index]) {
+                case LONG:
+                    return primitives[index];
+                case DOUBLE:
+                    return Double.longBitsToDouble(primitives[index]);
+                case BOOLEAN:
+                    return primitives[index] != 0;
+                default:
+                    break;
+            }
+        }
+        return values[index];
+    }
+
+    private boolean isPresent(int index) {
+        return kinds != null ? kinds[index] != ABSENT : values[index] != null;
+    }
+
+    private int advance(int index) {
+        while (index < values.length && !isPresent(index)) {
+            index++;
+        }
+        return index;
+    }
+
+    static long toLong(String fieldName, @Nullable Object value) {
+        return toNumber(fieldName, value).longValue();
+    }
+
+    static double toDouble(String fieldName, @Nullable Object value) {
+        return toNumber(fieldName, value).doubleValue();
+    }
+
+    static boolean toBoolean(String fieldName, @Nullable Object value) {
+        if (value == null) {
+            throw new NoSuchElementException("No field " + fieldName);
+        }
+        if (!(value instanceof Boolean)) {
+            throw new ClassCastException("Field " + fieldName +
+                    " is not a boolean: " + value.getClass().getName());
+        }
+        return (Boolean) value;
+    }
+
+    private static Number toNumber(String fieldName, @Nullable Object value) {
+        if (value == null) {
+            throw new NoSuchElementException("No field " + fieldName);
+        }
+        if (!(value instanceof Number)) {
+            throw new ClassCastException("Field " + fieldName +
+                    " is not numeric: " + value.getClass().getName());
+        }
+        return (Number) value;
+    }
+
+    /**
+     * Builds {@link SchemaFieldMap}s, storing primitive fields unboxed. It
+     * can be reused for the next message after {@link #build()}.
+     */
+    public static final class Builder {
+        private final FieldSchema schema;
+
+        private Object[] values;
+
+        private long[] primitives;
+
+        private byte[] kinds;
+
+        private Builder(FieldSchema schema) {
+            this.schema = Objects.requireNonNull(schema, "schema");
+            reset();
+        }
+
+        /**
+         * Set a field.
+         *
+         * @param slot  the slot of the field.
+         * @param value the value of the field, null for absent.
+         * @return this builder.
+         */
+        public Builder set(FieldSlot slot, @Nullable Object value) {
+            int index = index(slot);
+            values[index] = value;
+            kinds[index] = value == null ? ABSENT : OBJECT;
+            return this;
+        }
+
+        /**
+         * Set an integer field.
+         *
+         * @param slot  the slot of the field.
+         * @param value the value of the field.
+         * @return this builder.
+         */
+        public Builder setLong(FieldSlot slot, long value) {
+            return setPrimitive(slot, LONG, value);
+        }
+
+        /**
+         * Set a floating point field.
+         *
+         * @param slot  the slot of the field.
+         * @param value the value of the field.
+         * @return this builder.
+         */
+        public Builder setDouble(FieldSlot slot, double value) {
+            return setPrimitive(slot, DOUBLE, Double.doubleToRawLongBits(value));
+        }
+
+        /**
+         * Set a boolean field.
+         *
+         * @param slot  the slot of the field.
+         * @param value the value of the field.
+         * @return this builder.
+         */
+        public Builder setBoolean(FieldSlot slot, boolean value) {
+            return setPrimitive(slot, BOOLEAN, value ? 1 : 0);
+        }
+
+        /**
+         * Build the field map of the fields set so far and clear the
+         * builder.
+         *
+         * @return a new field map.
+         */
+        public SchemaFieldMap build() {
+            SchemaFieldMap fields =
+                    new SchemaFieldMap(schema, values, primitives, kinds);
+            reset();
+            return fields;
+        }
+
+        private Builder setPrimitive(FieldSlot slot, byte kind, long bits) {
+            int index = index(slot);
+            values[index] = null;
+            primitives[index] = bits;
+            kinds[index] = kind;
+            return this;
+        }
+
+        private int index(FieldSlot slot) {
+            if (slot.getSchema() != schema) {
+                throw new IllegalArgumentException(
+                        "Slot " + slot + " is not of " + schema);
+            }
+            return slot.getIndex();
+        }
+
+        private void reset() {
+            values = new Object[schema.size()];
+            primitives = new long[schema.size()];
+            kinds = new byte[schema.size()];
+        }
+    }
+}
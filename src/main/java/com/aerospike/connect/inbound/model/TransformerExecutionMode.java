@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The threads the message transformer is invoked on.
+ */
+public enum TransformerExecutionMode {
+    /**
+     * Invoke the transformer on a bounded pool of platform threads. Every
+     * blocking call, like a read with
+     * {@link com.aerospike.connect.inbound.AerospikeReader}, holds a platform
+     * thread.
+     */
+    @JsonProperty("platform")
+    PLATFORM,
+
+    /**
+     * Invoke every transform on its own virtual thread, so transformers doing
+     * blocking reads can have many messages in flight without being rewritten
+     * as an {@link com.aerospike.connect.inbound.AsyncInboundMessageTransformer}.
+     * It requires Java 21 or later and falls back to {@link #PLATFORM}
+     * otherwise.
+     *
+     * <p>
+     * A virtual thread blocking inside a <code>synchronized</code> block or
+     * method pins its carrier platform thread up to Java 23, and enough
+     * pinned threads stall all virtual threads. Guard state which is held
+     * across blocking calls with a
+     * {@link java.util.concurrent.locks.ReentrantLock} instead, and keep
+     * <code>synchronized</code> sections short and free of I/O. Run with
+     * <code>-Djdk.tracePinnedThreads=short</code> to find pinning.
+     * </p>
+     */
+    @JsonProperty("virtual")
+    VIRTUAL
+}
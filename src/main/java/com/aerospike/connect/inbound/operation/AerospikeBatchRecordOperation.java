@@ -0,0 +1,88 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.operation;
+
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.policy.BatchPolicy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Represents writes to multiple records submitted to the Aerospike database
+ * in a single batch call, as {@link BatchWrite}s and {@link BatchDelete}s.
+ *
+ * <p>
+ * The batch is sent as one request per server node instead of one request
+ * per record. Like {@link AerospikeCompositeRecordOperation} the records are
+ * not updated atomically, it is only allowed if
+ * {@link com.aerospike.connect.inbound.model.InboundMessageTransformerConfig}
+ * enables unsafe composite record operations.
+ * </p>
+ *
+ * <p>
+ * Each {@link BatchRecord} gets its own result code. The operation succeeds
+ * if every record succeeded or failed with one of the
+ * {@code ignoreErrorCodes}.
+ * </p>
+ */
+@AllArgsConstructor
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@Getter
+@ToString
+public class AerospikeBatchRecordOperation implements AerospikeRecordOperation {
+    /**
+     * The batch policy to use for this operation. Defaults to null implying
+     * the default batch write policy.
+     */
+    @Nullable
+    private final BatchPolicy batchPolicy;
+
+    /**
+     * The records to write or delete.
+     */
+    private final List<BatchRecord> records;
+
+    /**
+     * Error {@link com.aerospike.client.ResultCode}s to be ignored for the
+     * individual records.
+     *
+     * @see AerospikeSingleRecordOperation#getIgnoreErrorCodes()
+     */
+    @SuppressWarnings("FieldMayBeFinal")
+    @Nonnull
+    private Set<Integer> ignoreErrorCodes = Collections.emptySet();
+
+    /**
+     * Default constructor with comment to suppress javadoc warning.
+     */
+    public AerospikeBatchRecordOperation() {
+        throw new IllegalStateException("Cannot create AerospikeBatchRecordOperation");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.operation;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Represents an Aerospike single record transaction whose {@link Operation}s
+ * depend on whether the record exists, replacing a read followed by a choice
+ * between an {@link AerospikePutOperation} and an
+ * {@link AerospikeOperateOperation}.
+ *
+ * <p>
+ * The Aerospike inbound connector applies it without reading the record:
+ * </p>
+ * <ol>
+ *   <li> The {@code presentOperations} are applied with the
+ *   {@link #getPresentWritePolicy() present write policy}, which only updates
+ *   an existing record. The filter expression of the {@code writePolicy}, if
+ *   any, applies to this step only and a filtered out record fails the
+ *   operation with {@link ResultCode#FILTERED_OUT}.
+ *   </li>
+ *   <li> If the record does not exist, {@link ResultCode#KEY_NOT_FOUND_ERROR},
+ *   the {@code absentOperations} are applied with the
+ *   {@link #getAbsentWritePolicy() absent write policy}, which only creates
+ *   the record.
+ *   </li>
+ *   <li> If the record was created concurrently in between,
+ *   {@link ResultCode#KEY_EXISTS_ERROR}, the first step is retried once.
+ *   </li>
+ * </ol>
+ *
+ * <p>
+ * When the record usually exists this takes a single write, the second write
+ * is only needed the first time a key is seen.
+ * </p>
+ */
+@AllArgsConstructor
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@Getter
+@ToString
+public class AerospikeConditionalOperation implements AerospikeSingleRecordOperation {
+    /**
+     * @see AerospikeSingleRecordOperation#getKey()
+     */
+    @Nonnull
+    private final Key key;
+
+    /**
+     * @see AerospikeSingleRecordOperation#getWritePolicy()
+     */
+    @Nullable
+    private final WritePolicy writePolicy;
+
+    /**
+     * Operations to be executed if the record with the given {@link #key}
+     * exists.
+     */
+    private final List<Operation> presentOperations;
+
+    /**
+     * Operations to be executed to create the record with the given
+     * {@link #key} if it does not exist.
+     */
+    private final List<Operation> absentOperations;
+
+    /**
+     * @see AerospikeSingleRecordOperation#getIgnoreErrorCodes()
+     */
+    @SuppressWarnings("FieldMayBeFinal")
+    @Nonnull
+    private Set<Integer> ignoreErrorCodes = Collections.emptySet();
+
+    /**
+     * Default constructor with comment to suppress javadoc warning.
+     */
+    public AerospikeConditionalOperation() {
+        throw new IllegalStateException("Cannot create AerospikeConditionalOperation");
+    }
+
+    /**
+     * Get the write policy to apply the {@code presentOperations} with. It is
+     * a copy of the {@code writePolicy} which only updates an existing record.
+     *
+     * @return a new {@link WritePolicy}.
+     */
+    public WritePolicy getPresentWritePolicy() {
+        WritePolicy policy = writePolicy == null ? new WritePolicy() :
+                new WritePolicy(writePolicy);
+        policy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+        return policy;
+    }
+
+    /**
+     * Get the write policy to apply the {@code absentOperations} with. It is
+     * a copy of the {@code writePolicy} without the filter expression, which
+     * only creates a new record.
+     *
+     * @return a new {@link WritePolicy}.
+     */
+    public WritePolicy getAbsentWritePolicy() {
+        WritePolicy policy = writePolicy == null ? new WritePolicy() :
+                new WritePolicy(writePolicy);
+        policy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        policy.filterExp = null;
+        return policy;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.operation;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Merges the {@link AerospikeRecordOperation}s transformed from a batch of
+ * messages so that each {@link Key} is written once instead of once per
+ * message.
+ *
+ * <p>
+ * {@link AerospikePutOperation}s and {@link AerospikeOperateOperation}s for
+ * the same key are folded into a single {@link AerospikeOperateOperation}
+ * with the operations in message order:
+ * </p>
+ * <ul>
+ *   <li> a put of a bin replaces an earlier put of the same bin.</li>
+ *   <li> an add to a bin is summed with an earlier add to the same bin when
+ *   both values are integers or both are doubles.</li>
+ *   <li> only reads, puts, adds, appends and prepends of other bins may sit
+ *   between the two, a record level, expression or CDT operation in between
+ *   may read the bin and keeps both operations.</li>
+ *   <li> all other operations, for example list appends, are kept as is in
+ *   the merged operation.</li>
+ * </ul>
+ *
+ * <p>
+ * Operations are only merged if they have the same write policy instance and
+ * no {@code ignoreErrorCodes}: a merged operation succeeds or fails as a
+ * whole, so ignoring an error of one message would silently drop the writes
+ * of the others. A write policy with a filter
+ * expression, a generation check or a record exists action other than
+ * {@link RecordExistsAction#UPDATE} or {@link RecordExistsAction#UPDATE_ONLY}
+ * depends on the record state left by the previous operation, such
+ * operations are never merged. Any other operation for a key, like an
+ * {@link AerospikeDeleteOperation}, ends the merge for that key and
+ * {@link AerospikeCompositeRecordOperation}s and
+ * {@link AerospikeBatchRecordOperation}s end it for all keys.
+ * {@link AerospikeSkipRecordOperation}s are dropped.
+ * </p>
+ *
+ * <p>
+ * Note that a merged operation succeeds or fails as a whole, an operation
+ * which would have failed on its own now fails the operations it was
+ * merged with.
+ * </p>
+ */
+public final class AerospikeOperationCoalescer {
+    private AerospikeOperationCoalescer() {
+    }
+
+    /**
+     * Merge the operations for the same key.
+     *
+     * @param operations the operations in the order they would have been
+     *                   applied.
+     * @return the merged operations, each key in the position of its first
+     * merged operation.
+     */
+    public static List<AerospikeRecordOperation> coalesce(
+            List<? extends AerospikeRecordOperation> operations) {
+        List<AerospikeRecordOperation> result =
+                new ArrayList<>(operations.size());
+        // Index in result of the open merge for a key.
+        Map<Key, Integer> open = new HashMap<>();
+        // Merged operations of the open merges, by index in result.
+        Map<Integer, List<Operation>> merged = new HashMap<>();
+
+        for (AerospikeRecordOperation operation : operations) {
+            if (operation instanceof AerospikeSkipRecordOperation) {
+                continue;
+            }
+
+            if (!(operation instanceof AerospikeSingleRecordOperation)) {
+                open.clear();
+                result.add(operation);
+                continue;
+            }
+
+            AerospikeSingleRecordOperation single =
+                    (AerospikeSingleRecordOperation) operation;
+            List<Operation> ops = toOperations(single);
+            if (ops == null || !isMergeable(single.getWritePolicy())) {
+                open.remove(single.getKey());
+                result.add(operation);
+                continue;
+            }
+
+            Integer index = open.get(single.getKey());
+            if (index != null && canMerge(
+                    (AerospikeSingleRecordOperation) result.get(index),
+                    single)) {
+                List<Operation> mergedOps = merged.get(index);
+                if (mergedOps == null) {
+                    mergedOps = toOperations(
+                            (AerospikeSingleRecordOperation) result.get(index));
+                    merged.put(index, mergedOps);
+                }
+
+                for (Operation op : ops) {
+                    fold(mergedOps, op);
+                }
+                continue;
+            }
+
+            open.put(single.getKey(), result.size());
+            result.add(operation);
+        }
+
+        for (Map.Entry<Integer, List<Operation>> entry : merged.entrySet()) {
+            AerospikeSingleRecordOperation first =
+                    (AerospikeSingleRecordOperation) result.get(entry.getKey());
+            result.set(entry.getKey(), new AerospikeOperateOperation(
+                    first.getKey(), first.getWritePolicy(), entry.getValue(),
+                    first.getIgnoreErrorCodes()));
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static List<Operation> toOperations(
+            AerospikeSingleRecordOperation operation) {
+        if (operation instanceof AerospikePutOperation) {
+            List<Bin> bins = ((AerospikePutOperation) operation).getBins();
+            List<Operation> ops = new ArrayList<>(bins.size());
+            for (Bin bin : bins) {
+                ops.add(Operation.put(bin));
+            }
+            return ops;
+        }
+
+        if (operation instanceof AerospikeOperateOperation) {
+            return new ArrayList<>(
+                    ((AerospikeOperateOperation) operation).getOperations());
+        }
+
+        return null;
+    }
+
+    private static boolean isMergeable(@Nullable WritePolicy writePolicy) {
+        return writePolicy == null ||
+                (writePolicy.filterExp == null &&
+                        writePolicy.generationPolicy == GenerationPolicy.NONE &&
+                        (writePolicy.recordExistsAction ==
+                                RecordExistsAction.UPDATE ||
+                                writePolicy.recordExistsAction ==
+                                        RecordExistsAction.UPDATE_ONLY));
+    }
+
+    private static boolean canMerge(AerospikeSingleRecordOperation first,
+                                    AerospikeSingleRecordOperation next) {
+        // An ignored error of the merged operation would also drop the
+        // writes of the operations it was merged with.
+        return first.getWritePolicy() == next.getWritePolicy() &&
+                first.getIgnoreErrorCodes().isEmpty() &&
+                next.getIgnoreErrorCodes().isEmpty();
+    }
+
+    /**
+     * Append the operation to the merged operations, combining it with the
+     * last earlier operation on the same bin if possible.
+     */
+    private static void fold(List<Operation> ops, Operation op) {
+        if (op.binName != null && (op.type == Operation.Type.WRITE ||
+                op.type == Operation.Type.ADD)) {
+            for (int i = ops.size() - 1; i >= 0; i--) {
+                Operation previous = ops.get(i);
+                if (!isPlainBinOperation(previous)) {
+                    // Record level operations like delete or touch, and
+                    // expression or CDT operations which may read the bin,
+                    // have to see the bin as it was before them.
+                    break;
+                }
+
+                if (!previous.binName.equals(op.binName)) {
+                    continue;
+                }
+
+                if (op.type == Operation.Type.WRITE &&
+                        previous.type == Operation.Type.WRITE) {
+                    ops.remove(i);
+                } else if (op.type == Operation.Type.ADD &&
+                        previous.type == Operation.Type.ADD) {
+                    Value sum = add(previous.value, op.value);
+                    if (sum != null) {
+                        ops.set(i, Operation.add(new Bin(op.binName, sum)));
+                        return;
+                    }
+                }
+                break;
+            }
+        }
+
+        ops.add(op);
+    }
+
+    /**
+     * Whether an operation reads or writes only its own bin, so operations on
+     * other bins can be moved across it.
+     */
+    private static boolean isPlainBinOperation(Operation op) {
+        if (op.binName == null) {
+            return false;
+        }
+
+        switch (op.type) {
+            case READ:
+            case WRITE:
+            case ADD:
+            case APPEND:
+            case PREPEND:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Nullable
+    private static Value add(Value a, Value b) {
+        if (a.getType() == ParticleType.INTEGER &&
+                b.getType() == ParticleType.INTEGER) {
+            long x = a.toLong();
+            long y = b.toLong();
+            long sum = x + y;
+            // Leave an overflowing sum to the server.
+            return ((x ^ sum) & (y ^ sum)) < 0 ? null : Value.get(sum);
+        }
+
+        if (a.getType() == ParticleType.DOUBLE &&
+                b.getType() == ParticleType.DOUBLE) {
+            return Value.get(((Number) a.getObject()).doubleValue() +
+                    ((Number) b.getObject()).doubleValue());
+        }
+
+        return null;
+    }
+}
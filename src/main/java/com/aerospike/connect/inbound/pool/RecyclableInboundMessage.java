@@ -0,0 +1,418 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.pool;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.connect.inbound.model.FieldSchema;
+import com.aerospike.connect.inbound.model.FieldSlot;
+import com.aerospike.connect.inbound.model.FieldType;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.model.SchemaFieldMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * A mutable message which the Aerospike inbound connector fills and reuses
+ * for the next message once it is transformed. It holds the same attributes
+ * as an {@link InboundMessage} but is not one, see
+ * {@link RecyclingInboundMessageTransformer} for how it is handed to a
+ * transformer.
+ *
+ * <p>
+ * The fields are stored by the slots of a {@link FieldSchema}, the primitive
+ * fields unboxed, and none of the getters allocate. Absent values are
+ * returned as null instead of an empty {@link java.util.Optional}. A
+ * transformer must not keep a reference to the message or its fields after
+ * it returns, use {@link #toInboundMessage()} for a copy.
+ * </p>
+ *
+ * @param <K> type of message key.
+ * @param <M> type of message.
+ */
+public class RecyclableInboundMessage<K, M> implements Recyclable {
+    /**
+     * The schema of the fields.
+     */
+    private final FieldSchema schema;
+
+    /**
+     * The object field values indexed by slot.
+     */
+    private final Object[] values;
+
+    /**
+     * The primitive field values indexed by slot, doubles as their raw long
+     * bits and booleans as 0 or 1.
+     */
+    private final long[] primitives;
+
+    /**
+     * The type of the value of each field indexed by slot, null if absent.
+     */
+    private final FieldType[] kinds;
+
+    @Nullable
+    private K messageKey;
+
+    @Nullable
+    private M message;
+
+    @Nullable
+    private Key key;
+
+    @Nullable
+    private WritePolicy writePolicy;
+
+    private Set<Integer> ignoreErrorCodes = Collections.emptySet();
+
+    /**
+     * Create an empty message.
+     *
+     * @param schema the schema of the fields.
+     */
+    public RecyclableInboundMessage(FieldSchema schema) {
+        this.schema = Objects.requireNonNull(schema, "schema");
+        this.values = new Object[schema.size()];
+        this.primitives = new long[schema.size()];
+        this.kinds = new FieldType[schema.size()];
+    }
+
+    /**
+     * Set the attributes of the message and clear its fields.
+     *
+     * @param messageKey       the key of the message, null if it has none.
+     * @param message          the un-parsed raw message.
+     * @param key              the Aerospike record key, null if not
+     *                         extracted.
+     * @param writePolicy      the Aerospike write policy, null if not
+     *                         extracted.
+     * @param ignoreErrorCodes error codes to be ignored.
+     * @return this message.
+     */
+    public RecyclableInboundMessage<K, M> reset(@Nullable K messageKey,
+                                                M message, @Nullable Key key,
+                                                @Nullable WritePolicy writePolicy,
+                                                Set<Integer> ignoreErrorCodes) {
+        recycle();
+        this.messageKey = messageKey;
+        this.message = message;
+        this.key = key;
+        this.writePolicy = writePolicy;
+        this.ignoreErrorCodes = ignoreErrorCodes;
+        return this;
+    }
+
+    /**
+     * Set the attributes and the fields of the schema from an
+     * {@link InboundMessage}. The fields the input lacks are absent.
+     *
+     * @param input the message to copy.
+     * @return this message.
+     */
+    public RecyclableInboundMessage<K, M> reset(InboundMessage<K, M> input) {
+        reset(input.getMessageKey().orElse(null), input.getMessage(),
+                input.getKey().orElse(null),
+                input.getWritePolicy().orElse(null),
+                input.getIgnoreErrorCodes());
+        for (FieldSlot slot : schema.getSlots()) {
+            Object value = input.get(slot);
+            if (value instanceof Long) {
+                setLong(slot, (Long) value);
+            } else if (value instanceof Double) {
+                setDouble(slot, (Double) value);
+            } else if (value instanceof Boolean) {
+                setBoolean(slot, (Boolean) value);
+            } else {
+                set(slot, value);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void recycle() {
+        messageKey = null;
+        message = null;
+        key = null;
+        writePolicy = null;
+        ignoreErrorCodes = Collections.emptySet();
+        Arrays.fill(values, null);
+        Arrays.fill(kinds, null);
+    }
+
+    /**
+     * Set an object field.
+     *
+     * @param slot  the slot of the field.
+     * @param value the value of the field, null for absent.
+     */
+    public void set(FieldSlot slot, @Nullable Object value) {
+        int index = index(slot);
+        values[index] = value;
+        kinds[index] = value == null ? null : FieldType.OBJECT;
+    }
+
+    /**
+     * Set an integer field.
+     *
+     * @param slot  the slot of the field.
+     * @param value the value of the field.
+     */
+    public void setLong(FieldSlot slot, long value) {
+        setPrimitive(slot, FieldType.LONG, value);
+    }
+
+    /**
+     * Set a floating point field.
+     *
+     * @param slot  the slot of the field.
+     * @param value the value of the field.
+     */
+    public void setDouble(FieldSlot slot, double value) {
+        setPrimitive(slot, FieldType.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Set a boolean field.
+     *
+     * @param slot  the slot of the field.
+     * @param value the value of the field.
+     */
+    public void setBoolean(FieldSlot slot, boolean value) {
+        setPrimitive(slot, FieldType.BOOLEAN, value ? 1 : 0);
+    }
+
+    /**
+     * Get the schema of the fields.
+     *
+     * @return the schema of the fields.
+     */
+    public FieldSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Return the key of the message, null if it has none.
+     *
+     * @return the key of the message, null if it has none.
+     * @see InboundMessage#getMessageKey()
+     */
+    @Nullable
+    public K getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * Return the un-parsed raw message.
+     *
+     * @return the un-parsed raw message.
+     * @see InboundMessage#getMessage()
+     */
+    @Nullable
+    public M getMessage() {
+        return message;
+    }
+
+    /**
+     * Return the Aerospike record key, null if not extracted.
+     *
+     * @return the Aerospike record key, null if not extracted.
+     * @see InboundMessage#getKey()
+     */
+    @Nullable
+    public Key getKey() {
+        return key;
+    }
+
+    /**
+     * Return the Aerospike write policy, null if not extracted.
+     *
+     * @return the Aerospike write policy, null if not extracted.
+     * @see InboundMessage#getWritePolicy()
+     */
+    @Nullable
+    public WritePolicy getWritePolicy() {
+        return writePolicy;
+    }
+
+    /**
+     * Return the error codes to be ignored.
+     *
+     * @return the error codes to be ignored.
+     * @see InboundMessage#getIgnoreErrorCodes()
+     */
+    public Set<Integer> getIgnoreErrorCodes() {
+        return ignoreErrorCodes;
+    }
+
+    /**
+     * Whether a field is present.
+     *
+     * @param slot the slot of the field.
+     * @return true if the message has a value for the field.
+     */
+    public boolean isPresent(FieldSlot slot) {
+        return kinds[index(slot)] != null;
+    }
+
+    /**
+     * Get the value of an object field. Primitive fields are boxed.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field, null if absent.
+     */
+    @Nullable
+    public Object get(FieldSlot slot) {
+        int index = index(slot);
+        FieldType kind = kinds[index];
+        if (kind == null) {
+            return null;
+        }
+
+        switch (kind) {
+            case LONG:
+                return primitives[index];
+            case DOUBLE:
+                return Double.longBitsToDouble(primitives[index]);
+            case BOOLEAN:
+                return primitives[index] != 0;
+            default:
+                return values[index];
+        }
+    }
+
+    /**
+     * Get the value of a numeric field as a long.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not numeric.
+     */
+    public long getLong(FieldSlot slot) {
+        int index = index(slot);
+        if (kinds[index] == FieldType.LONG) {
+            return primitives[index];
+        }
+        if (kinds[index] == FieldType.DOUBLE) {
+            return (long) Double.longBitsToDouble(primitives[index]);
+        }
+        return toNumber(slot, get(slot)).longValue();
+    }
+
+    /**
+     * Get the value of a numeric field as a double.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not numeric.
+     */
+    public double getDouble(FieldSlot slot) {
+        int index = index(slot);
+        if (kinds[index] == FieldType.DOUBLE) {
+            return Double.longBitsToDouble(primitives[index]);
+        }
+        if (kinds[index] == FieldType.LONG) {
+            return primitives[index];
+        }
+        return toNumber(slot, get(slot)).doubleValue();
+    }
+
+    /**
+     * Get the value of a boolean field.
+     *
+     * @param slot the slot of the field.
+     * @return the value of the field.
+     * @throws NoSuchElementException if the field is absent.
+     * @throws ClassCastException     if the field is not a boolean.
+     */
+    public boolean getBoolean(FieldSlot slot) {
+        int index = index(slot);
+        if (kinds[index] == FieldType.BOOLEAN) {
+            return primitives[index] != 0;
+        }
+
+        Object value = get(slot);
+        if (value == null) {
+            throw new NoSuchElementException("No field " + slot.getName());
+        }
+        return (Boolean) value;
+    }
+
+    /**
+     * Copy the message to an immutable {@link InboundMessage}.
+     *
+     * @return a new message.
+     */
+    public InboundMessage<K, M> toInboundMessage() {
+        SchemaFieldMap.Builder fields = SchemaFieldMap.builder(schema);
+        for (FieldSlot slot : schema.getSlots()) {
+            FieldType kind = kinds[slot.getIndex()];
+            if (kind == null) {
+                continue;
+            }
+
+            switch (kind) {
+                case LONG:
+                    fields.setLong(slot, getLong(slot));
+                    break;
+                case DOUBLE:
+                    fields.setDouble(slot, getDouble(slot));
+                    break;
+                case BOOLEAN:
+                    fields.setBoolean(slot, getBoolean(slot));
+                    break;
+                default:
+                    fields.set(slot, values[slot.getIndex()]);
+                    break;
+            }
+        }
+
+        return new InboundMessage<>(messageKey, message, key, writePolicy,
+                fields.build(), ignoreErrorCodes);
+    }
+
+    private void setPrimitive(FieldSlot slot, FieldType kind, long bits) {
+        int index = index(slot);
+        values[index] = null;
+        primitives[index] = bits;
+        kinds[index] = kind;
+    }
+
+    private int index(FieldSlot slot) {
+        if (slot.getSchema() != schema) {
+            throw new IllegalArgumentException(
+                    "Slot " + slot + " is not of " + schema);
+        }
+        return slot.getIndex();
+    }
+
+    private static Number toNumber(FieldSlot slot, @Nullable Object value) {
+        if (value == null) {
+            throw new NoSuchElementException("No field " + slot.getName());
+        }
+        return (Number) value;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.pool;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of {@link Recyclable} objects.
+ *
+ * <p>
+ * {@link #acquire()} returns a pooled object, or a new one if the pool is
+ * empty, and {@link #release(Recyclable)} recycles the object and returns it
+ * to the pool, or drops it if the pool is full. Neither allocates once the
+ * pool holds enough objects for the objects in flight. It is thread safe, an
+ * object can be released by another thread than the one which acquired it.
+ * </p>
+ *
+ * <p>
+ * An object must not be used after it is released, and must be released at
+ * most once.
+ * </p>
+ *
+ * @param <T> type of the pooled objects.
+ */
+public class RecyclablePool<T extends Recyclable> {
+    /**
+     * Creates new objects when the pool is empty.
+     */
+    private final Supplier<? extends T> factory;
+
+    /**
+     * The pooled objects, a stack guarded by this.
+     */
+    private final Object[] pooled;
+
+    private int count;
+
+    /**
+     * Create a pool.
+     *
+     * @param factory  creates new objects when the pool is empty.
+     * @param capacity maximum number of objects held by the pool.
+     */
+    public RecyclablePool(Supplier<? extends T> factory, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.pooled = new Object[capacity];
+    }
+
+    /**
+     * Get an object from the pool, or a new object if the pool is empty.
+     *
+     * @return a recycled or new object.
+     */
+    public T acquire() {
+        synchronized (this) {
+            if (count > 0) {
+                @SuppressWarnings("unchecked")
+                T object = (T) pooled[--count];
+                pooled[count] = null;
+                return object;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Recycle an object and return it to the pool.
+     *
+     * @param object the object to return.
+     */
+    public void release(T object) {
+        object.recycle();
+        synchronized (this) {
+            if (count < pooled.length) {
+                pooled[count++] = object;
+            }
+        }
+    }
+
+    /**
+     * Get the number of pooled objects.
+     *
+     * @return the number of objects available without allocation.
+     */
+    public synchronized int size() {
+        return count;
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.pool;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.connect.inbound.model.FieldType;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSingleRecordOperation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A mutable put operation which a transformer fills from a
+ * {@link RecyclablePool} and the Aerospike inbound connector returns to the
+ * pool once the write completes. It is not an {@link AerospikePutOperation},
+ * connectors which do not know it get a copy made with
+ * {@link #toPutOperation()}.
+ *
+ * <p>
+ * Primitive bin values are stored unboxed and the bin arrays are reused, so
+ * filling an operation does not allocate once the arrays have grown to the
+ * number of bins written. A connector which supports the pooled mode writes
+ * the bins by index with {@link #getBinCount()}, {@link #getBinName(int)},
+ * {@link #getBinType(int)} and the getter of the type, then releases the
+ * operation to the pool it was acquired from.
+ * </p>
+ */
+public class RecyclablePutOperation implements AerospikeSingleRecordOperation,
+        Recyclable {
+    @Nullable
+    private Key key;
+
+    @Nullable
+    private WritePolicy writePolicy;
+
+    private Set<Integer> ignoreErrorCodes = Collections.emptySet();
+
+    private String[] binNames;
+
+    private FieldType[] binTypes;
+
+    /**
+     * The primitive bin values, doubles as their raw long bits and booleans
+     * as 0 or 1.
+     */
+    private long[] primitives;
+
+    /**
+     * The object bin values.
+     */
+    private Object[] values;
+
+    private int binCount;
+
+    /**
+     * Create an empty operation.
+     */
+    public RecyclablePutOperation() {
+        this(8);
+    }
+
+    /**
+     * Create an empty operation.
+     *
+     * @param binCapacity the expected number of bins.
+     */
+    public RecyclablePutOperation(int binCapacity) {
+        int capacity = Math.max(binCapacity, 1);
+        this.binNames = new String[capacity];
+        this.binTypes = new FieldType[capacity];
+        this.primitives = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Set the record to write and clear the bins.
+     *
+     * @param key              the key of the record.
+     * @param writePolicy      the write policy, null for the default.
+     * @param ignoreErrorCodes error codes to be ignored.
+     * @return this operation.
+     */
+    public RecyclablePutOperation reset(Key key,
+                                        @Nullable WritePolicy writePolicy,
+                                        Set<Integer> ignoreErrorCodes) {
+        recycle();
+        this.key = key;
+        this.writePolicy = writePolicy;
+        this.ignoreErrorCodes = ignoreErrorCodes;
+        return this;
+    }
+
+    @Override
+    public void recycle() {
+        key = null;
+        writePolicy = null;
+        ignoreErrorCodes = Collections.emptySet();
+        Arrays.fill(values, 0, binCount, null);
+        binCount = 0;
+    }
+
+    /**
+     * Add an integer bin.
+     *
+     * @param binName the name of the bin.
+     * @param value   the value of the bin.
+     * @return this operation.
+     */
+    public RecyclablePutOperation putLong(String binName, long value) {
+        return add(binName, FieldType.LONG, value, null);
+    }
+
+    /**
+     * Add a floating point bin.
+     *
+     * @param binName the name of the bin.
+     * @param value   the value of the bin.
+     * @return this operation.
+     */
+    public RecyclablePutOperation putDouble(String binName, double value) {
+        return add(binName, FieldType.DOUBLE,
+                Double.doubleToRawLongBits(value), null);
+    }
+
+    /**
+     * Add a boolean bin.
+     *
+     * @param binName the name of the bin.
+     * @param value   the value of the bin.
+     * @return this operation.
+     */
+    public RecyclablePutOperation putBoolean(String binName, boolean value) {
+        return add(binName, FieldType.BOOLEAN, value ? 1 : 0, null);
+    }
+
+    /**
+     * Add a bin of any value supported by {@link Value#get(Object)}.
+     *
+     * @param binName the name of the bin.
+     * @param value   the value of the bin, null to delete the bin.
+     * @return this operation.
+     */
+    public RecyclablePutOperation put(String binName, @Nullable Object value) {
+        return add(binName, FieldType.OBJECT, 0, value);
+    }
+
+    /**
+     * Get the Aerospike record key.
+     *
+     * @return the key of the record.
+     * @throws IllegalStateException if the operation has not been reset
+     *                               since it was recycled.
+     */
+    @Nonnull
+    @Override
+    public Key getKey() {
+        if (key == null) {
+            throw new IllegalStateException("Operation has no key");
+        }
+        return key;
+    }
+
+    @Nullable
+    @Override
+    public WritePolicy getWritePolicy() {
+        return writePolicy;
+    }
+
+    @Nonnull
+    @Override
+    public Set<Integer> getIgnoreErrorCodes() {
+        return ignoreErrorCodes;
+    }
+
+    /**
+     * Get the number of bins.
+     *
+     * @return the number of bins to put.
+     */
+    public int getBinCount() {
+        return binCount;
+    }
+
+    /**
+     * Get the name of a bin.
+     *
+     * @param index the index of the bin.
+     * @return the name of the bin.
+     */
+    public String getBinName(int index) {
+        return binNames[checkIndex(index)];
+    }
+
+    /**
+     * Get how the value of a bin is stored, which decides the getter to read
+     * it with.
+     *
+     * @param index the index of the bin.
+     * @return the type of the value of the bin.
+     */
+    public FieldType getBinType(int index) {
+        return binTypes[checkIndex(index)];
+    }
+
+    /**
+     * Get the value of a {@link FieldType#LONG} bin.
+     *
+     * @param index the index of the bin.
+     * @return the value of the bin.
+     */
+    public long getLong(int index) {
+        return primitives[checkIndex(index, FieldType.LONG)];
+    }
+
+    /**
+     * Get the value of a {@link FieldType#DOUBLE} bin.
+     *
+     * @param index the index of the bin.
+     * @return the value of the bin.
+     */
+    public double getDouble(int index) {
+        return Double.longBitsToDouble(
+                primitives[checkIndex(index, FieldType.DOUBLE)]);
+    }
+
+    /**
+     * Get the value of a {@link FieldType#BOOLEAN} bin.
+     *
+     * @param index the index of the bin.
+     * @return the value of the bin.
+     */
+    public boolean getBoolean(int index) {
+        return primitives[checkIndex(index, FieldType.BOOLEAN)] != 0;
+    }
+
+    /**
+     * Get the value of a {@link FieldType#OBJECT} bin.
+     *
+     * @param index the index of the bin.
+     * @return the value of the bin, null to delete the bin.
+     */
+    @Nullable
+    public Object getObject(int index) {
+        return values[checkIndex(index, FieldType.OBJECT)];
+    }
+
+    /**
+     * Convert the bins to {@link Bin}s.
+     *
+     * @return a new list of bins.
+     */
+    public List<Bin> toBins() {
+        List<Bin> bins = new ArrayList<>(binCount);
+        for (int i = 0; i < binCount; i++) {
+            Value value;
+            switch (binTypes[i]) {
+                case LONG:
+                    value = Value.get(getLong(i));
+                    break;
+                case DOUBLE:
+                    value = Value.get(getDouble(i));
+                    break;
+                case BOOLEAN:
+                    value = Value.get(getBoolean(i));
+                    break;
+                default:
+                    value = Value.get(values[i]);
+                    break;
+            }
+            bins.add(new Bin(binNames[i], value));
+        }
+        return bins;
+    }
+
+    /**
+     * Copy the operation to an immutable {@link AerospikePutOperation}.
+     *
+     * @return a new operation.
+     */
+    public AerospikePutOperation toPutOperation() {
+        return new AerospikePutOperation(getKey(), writePolicy, toBins(),
+                ignoreErrorCodes);
+    }
+
+    @Override
+    public String toString() {
+        return "RecyclablePutOperation(key=" + key + ", bins=" +
+                Arrays.asList(binNames).subList(0, binCount) + ")";
+    }
+
+    private RecyclablePutOperation add(String binName, FieldType type,
+                                       long primitive,
+                                       @Nullable Object value) {
+        if (binCount == binNames.length) {
+            int capacity = binCount * 2;
+            binNames = Arrays.copyOf(binNames, capacity);
+            binTypes = Arrays.copyOf(binTypes, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        binNames[binCount] = binName;
+        binTypes[binCount] = type;
+        primitives[binCount] = primitive;
+        values[binCount] = value;
+        binCount++;
+        return this;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= binCount) {
+            throw new IndexOutOfBoundsException(
+                    "Bin " + index + " out of " + binCount);
+        }
+        return index;
+    }
+
+    private int checkIndex(int index, FieldType type) {
+        if (binTypes[checkIndex(index)] != type) {
+            throw new IllegalStateException("Bin " + binNames[index] +
+                    " is of type " + binTypes[index]);
+        }
+        return index;
+    }
+}
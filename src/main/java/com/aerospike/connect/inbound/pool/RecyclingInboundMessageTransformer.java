@@ -0,0 +1,102 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.pool;
+
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.model.FieldSchema;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+
+/**
+ * Generate an {@link AerospikeRecordOperation} from a reused incoming
+ * message, without allocating on the steady state path.
+ *
+ * <p>
+ * It is configured like any other transformer, with the
+ * {@link com.aerospike.connect.inbound.model.InboundMessageTransformerConfig}
+ * class. A connector which supports the pooled mode fills a
+ * {@link RecyclableInboundMessage} of the {@link #getSchema() schema} of the
+ * transformer for every message and reuses it once
+ * {@link #transform(RecyclableInboundMessage, RecyclablePool)} returns. The
+ * transformer fills a {@link RecyclablePutOperation} acquired from the given
+ * pool, which the connector writes by index and releases after the write
+ * completes. Return a shared {@link AerospikeSkipRecordOperation} instance
+ * to skip a message.
+ * </p>
+ *
+ * <p>
+ * Other connectors call {@link #transform(InboundMessage)}, which copies the
+ * message and the returned put operation and so allocates for every
+ * message.
+ * </p>
+ *
+ * <p>
+ * The same threading rules as {@link InboundMessageTransformer} apply.
+ * </p>
+ *
+ * @param <K> type of message key.
+ * @param <M> type of message.
+ */
+public interface RecyclingInboundMessageTransformer<K, M>
+        extends InboundMessageTransformer<InboundMessage<K, M>> {
+    /**
+     * Get the fields the transformer reads and their types.
+     *
+     * @return the schema of the messages.
+     */
+    FieldSchema getSchema();
+
+    /**
+     * Transforms a message into an {@link AerospikeRecordOperation} to apply
+     * on the Aerospike database.
+     *
+     * @param input      Inbound message from the external system, only valid
+     *                   until this method returns.
+     * @param operations the pool to acquire put operations from.
+     * @return the operation to apply.
+     */
+    AerospikeRecordOperation transform(RecyclableInboundMessage<K, M> input,
+                                       RecyclablePool<RecyclablePutOperation> operations);
+
+    /**
+     * Transforms a message by copying it to a {@link RecyclableInboundMessage},
+     * for connectors without the pooled mode. A returned
+     * {@link RecyclablePutOperation} is converted with
+     * {@link RecyclablePutOperation#toPutOperation()}.
+     *
+     * @param input Inbound message from the external system.
+     * @return the operation to apply.
+     */
+    @Override
+    default AerospikeRecordOperation transform(InboundMessage<K, M> input) {
+        RecyclablePool<RecyclablePutOperation> operations =
+                new RecyclablePool<>(RecyclablePutOperation::new, 1);
+        AerospikeRecordOperation operation = transform(
+                new RecyclableInboundMessage<K, M>(getSchema()).reset(input),
+                operations);
+        if (operation instanceof RecyclablePutOperation) {
+            RecyclablePutOperation put = (RecyclablePutOperation) operation;
+            AerospikeRecordOperation copy = put.toPutOperation();
+            operations.release(put);
+            return copy;
+        }
+        return operation;
+    }
+}
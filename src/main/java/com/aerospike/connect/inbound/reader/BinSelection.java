@@ -0,0 +1,88 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.Record;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The bin names requested by a read, compared independent of their order.
+ */
+final class BinSelection {
+    /**
+     * The requested bin names as passed by the caller.
+     */
+    private final String[] binNames;
+
+    /**
+     * Sorted copy of the bin names used for equality.
+     */
+    private final String[] sortedBinNames;
+
+    private final int hashCode;
+
+    private BinSelection(String[] binNames) {
+        this.binNames = binNames;
+        this.sortedBinNames = binNames.clone();
+        Arrays.sort(sortedBinNames);
+        this.hashCode = Arrays.hashCode(sortedBinNames);
+    }
+
+    static BinSelection of(String[] binNames) {
+        return new BinSelection(binNames);
+    }
+
+    String[] getBinNames() {
+        return binNames;
+    }
+
+    /**
+     * Project a record read with all its bins onto this selection.
+     */
+    Record project(Record record) {
+        Map<String, Object> bins = new HashMap<>(binNames.length * 2);
+        if (record.bins != null) {
+            for (String binName : binNames) {
+                if (record.bins.containsKey(binName)) {
+                    bins.put(binName, record.bins.get(binName));
+                }
+            }
+        }
+        return new Record(bins, record.generation, record.expiration);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BinSelection)) {
+            return false;
+        }
+        return Arrays.equals(sortedBinNames, ((BinSelection) o).sortedBinNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * A read-through cache in front of an {@link AerospikeReader}.
+ *
+ * <p>
+ * Records are cached per {@link Key} digest and requested bin names, a cached
+ * entry of the entire record also serves reads of a subset of its bins.
+ * Entries expire after a fixed time to live and the least recently used keys
+ * are evicted once the total weight of the cached records exceeds the maximum
+ * weight. Records not found are not cached.
+ * </p>
+ *
+ * <p>
+ * Call {@link #invalidate(Key)} after a write to a key is applied. A read
+ * which started before the invalidation does not populate the cache, and a
+ * record is never replaced by one with a lower generation, so a slow read
+ * cannot overwrite the result of a newer one.
+ * </p>
+ *
+ * <p>
+ * Cached {@link Record} instances are shared between callers and must not be
+ * modified. {@link #get(BatchPolicy, List)} is not cached.
+ * </p>
+ */
+public class CachingAerospikeReader implements AerospikeReader {
+    /**
+     * The reader to read records not present in the cache.
+     */
+    private final AerospikeReader delegate;
+
+    /**
+     * Maximum total weight of the cached records.
+     */
+    private final long maximumWeight;
+
+    /**
+     * Time to live of a cached record in nanoseconds.
+     */
+    private final long timeToLiveNanos;
+
+    /**
+     * Computes the weight of a cached record.
+     */
+    private final ToLongFunction<Record> weigher;
+
+    /**
+     * Cached records in least recently used order, guarded by itself.
+     */
+    private final LinkedHashMap<Key, KeyEntry> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Incremented on every invalidation, guarded by {@link #entries}.
+     */
+    private long invalidationSequence;
+
+    /**
+     * The latest invalidation sequence of an evicted key, guarded by
+     * {@link #entries}.
+     */
+    private long evictedInvalidationSequence;
+
+    /**
+     * Number of reads in flight per key, guarded by {@link #entries}.
+     */
+    private final Map<Key, Integer> loading = new HashMap<>();
+
+    /**
+     * Total weight of the cached records, guarded by {@link #entries}.
+     */
+    private long weight;
+
+    /**
+     * Create a cache holding at most the given number of records.
+     *
+     * @param delegate      the reader to read records not present in the cache.
+     * @param maximumSize   maximum number of cached records.
+     * @param timeToLive    time after which a cached record expires.
+     */
+    public CachingAerospikeReader(AerospikeReader delegate, long maximumSize,
+                                  Duration timeToLive) {
+        this(delegate, maximumSize, timeToLive, record -> 1);
+    }
+
+    /**
+     * Create a cache bounded by the total weight of the cached records.
+     *
+     * @param delegate      the reader to read records not present in the cache.
+     * @param maximumWeight maximum total weight of the cached records.
+     * @param timeToLive    time after which a cached record expires.
+     * @param weigher       computes the weight of a record, for example an
+     *                      estimate of its size in bytes.
+     */
+    public CachingAerospikeReader(AerospikeReader delegate, long maximumWeight,
+                                  Duration timeToLive,
+                                  ToLongFunction<Record> weigher) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException(
+                    "maximumWeight should be positive: " + maximumWeight);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.maximumWeight = maximumWeight;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+    }
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        return get(null, key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        return getCached(policy, key, null);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames)
+            throws AerospikeException {
+        return getCached(policy, key, BinSelection.of(binNames));
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records)
+            throws AerospikeException {
+        delegate.get(policy, records);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        return getCached(policy, keys, null);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+            throws AerospikeException {
+        return getCached(policy, keys, BinSelection.of(binNames));
+    }
+
+    @Override
+    public boolean exists(Policy policy, Key key) throws AerospikeException {
+        synchronized (entries) {
+            if (isCached(key, System.nanoTime())) {
+                hits.increment();
+                return true;
+            }
+        }
+        misses.increment();
+        return delegate.exists(policy, key);
+    }
+
+    @Override
+    public boolean[] exists(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        return delegate.exists(policy, keys);
+    }
+
+    @Override
+    public Record getHeader(Policy policy, Key key) throws AerospikeException {
+        return delegate.getHeader(policy, key);
+    }
+
+    @Override
+    public Record[] getHeader(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        return delegate.getHeader(policy, keys);
+    }
+
+    @Override
+    public Record operate(Policy policy, Key key, Operation... operations)
+            throws AerospikeException {
+        return delegate.operate(policy, key, operations);
+    }
+
+    @Override
+    public Record[] operate(BatchPolicy policy, Key[] keys,
+                            Operation... operations) throws AerospikeException {
+        return delegate.operate(policy, keys, operations);
+    }
+
+    /**
+     * Remove all cached records of a key. Call it after a write to the key has
+     * been applied.
+     *
+     * @param key the key written to.
+     */
+    public void invalidate(Key key) {
+        synchronized (entries) {
+            invalidationSequence++;
+            KeyEntry entry = entries.remove(key);
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+            if (loading.containsKey(key)) {
+                // Remember the invalidation until the reads in flight finish.
+                KeyEntry marker = new KeyEntry();
+                marker.invalidatedAt = invalidationSequence;
+                entries.put(key, marker);
+            }
+        }
+    }
+
+    /**
+     * Remove all cached records.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationSequence++;
+            evictedInvalidationSequence = invalidationSequence;
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Get the number of reads served from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of reads passed on to the underlying reader.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of records evicted to stay within the maximum weight.
+     * Expired and invalidated records are not counted.
+     *
+     * @return the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the total weight of the cached records.
+     *
+     * @return the current weight.
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    private Record getCached(Policy policy, Key key,
+                             @Nullable BinSelection bins) {
+        long sequence;
+        synchronized (entries) {
+            Record record = lookup(key, bins, System.nanoTime());
+            if (record != null) {
+                hits.increment();
+                return record;
+            }
+            sequence = invalidationSequence;
+            loading.merge(key, 1, Integer::sum);
+        }
+        misses.increment();
+
+        Record record = null;
+        try {
+            record = bins == null ? delegate.get(policy, key) :
+                    delegate.get(policy, key, bins.getBinNames());
+        } finally {
+            synchronized (entries) {
+                if (record != null) {
+                    store(key, bins, record, sequence, System.nanoTime());
+                }
+                loaded(key);
+            }
+        }
+        return record;
+    }
+
+    private Record[] getCached(BatchPolicy policy, Key[] keys,
+                               @Nullable BinSelection bins) {
+        Record[] records = new Record[keys.length];
+        List<Integer> missing = new ArrayList<>();
+        long sequence;
+        synchronized (entries) {
+            long now = System.nanoTime();
+            for (int i = 0; i < keys.length; i++) {
+                records[i] = lookup(keys[i], bins, now);
+                if (records[i] == null) {
+                    missing.add(i);
+                    loading.merge(keys[i], 1, Integer::sum);
+                }
+            }
+            sequence = invalidationSequence;
+        }
+        hits.add(keys.length - missing.size());
+        if (missing.isEmpty()) {
+            return records;
+        }
+        misses.add(missing.size());
+
+        Key[] missingKeys = new Key[missing.size()];
+        for (int i = 0; i < missingKeys.length; i++) {
+            missingKeys[i] = keys[missing.get(i)];
+        }
+        Record[] read = null;
+        try {
+            read = bins == null ? delegate.get(policy, missingKeys) :
+                    delegate.get(policy, missingKeys, bins.getBinNames());
+        } finally {
+            synchronized (entries) {
+                long now = System.nanoTime();
+                for (int i = 0; i < missingKeys.length; i++) {
+                    if (read != null && read[i] != null) {
+                        store(missingKeys[i], bins, read[i], sequence, now);
+                    }
+                    loaded(missingKeys[i]);
+                }
+            }
+        }
+        for (int i = 0; i < missingKeys.length; i++) {
+            records[missing.get(i)] = read[i];
+        }
+        return records;
+    }
+
+    @Nullable
+    private Record lookup(Key key, @Nullable BinSelection bins, long now) {
+        KeyEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        CachedRecord cached = entry.records.get(bins);
+        if (cached != null && isExpired(cached, now)) {
+            removeRecord(entry, bins, cached);
+            cached = null;
+        }
+        if (cached != null) {
+            return cached.record;
+        }
+
+        if (bins != null) {
+            // Serve a bin subset from the entire record.
+            CachedRecord all = entry.records.get(null);
+            if (all != null && !isExpired(all, now)) {
+                return bins.project(all.record);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether any bins of a record are cached and not expired, dropping the
+     * expired ones.
+     */
+    private boolean isCached(Key key, long now) {
+        KeyEntry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+
+        boolean cached = false;
+        Iterator<CachedRecord> iterator = entry.records.values().iterator();
+        while (iterator.hasNext()) {
+            CachedRecord record = iterator.next();
+            if (isExpired(record, now)) {
+                iterator.remove();
+                entry.weight -= record.weight;
+                weight -= record.weight;
+            } else {
+                cached = true;
+            }
+        }
+        return cached;
+    }
+
+    private void store(Key key, @Nullable BinSelection bins, Record record,
+                       long sequence, long now) {
+        KeyEntry entry = entries.get(key);
+        if (entry == null) {
+            if (evictedInvalidationSequence > sequence) {
+                // Can't tell whether this key was invalidated while reading.
+                return;
+            }
+            entry = new KeyEntry();
+            entries.put(key, entry);
+        } else if (entry.invalidatedAt > sequence ||
+                entry.generation > record.generation) {
+            return;
+        }
+
+        CachedRecord previous = entry.records.get(bins);
+        if (previous != null) {
+            removeRecord(entry, bins, previous);
+        }
+        long recordWeight = weigher.applyAsLong(record);
+        entry.records.put(bins, new CachedRecord(record, now, recordWeight));
+        entry.weight += recordWeight;
+        entry.generation = Math.max(entry.generation, record.generation);
+        weight += recordWeight;
+        evict();
+    }
+
+    private void loaded(Key key) {
+        if (loading.merge(key, -1, Integer::sum) == 0) {
+            loading.remove(key);
+            KeyEntry entry = entries.get(key);
+            if (entry != null && entry.records.isEmpty()) {
+                // Drop the invalidation marker.
+                entries.remove(key);
+            }
+        }
+    }
+
+    private void removeRecord(KeyEntry entry, @Nullable BinSelection bins,
+                              CachedRecord cached) {
+        entry.records.remove(bins);
+        entry.weight -= cached.weight;
+        weight -= cached.weight;
+    }
+
+    private void evict() {
+        Iterator<KeyEntry> iterator = entries.values().iterator();
+        while (weight > maximumWeight && iterator.hasNext()) {
+            KeyEntry entry = iterator.next();
+            iterator.remove();
+            weight -= entry.weight;
+            evictions.add(entry.records.size());
+            evictedInvalidationSequence = Math.max(evictedInvalidationSequence,
+                    entry.invalidatedAt);
+        }
+    }
+
+    private boolean isExpired(CachedRecord cached, long now) {
+        return now - cached.loadedAt >= timeToLiveNanos;
+    }
+
+    /**
+     * The cached records of a single key by requested bins, a null selection
+     * is the entire record.
+     */
+    private static final class KeyEntry {
+        private final Map<BinSelection, CachedRecord> records = new HashMap<>(2);
+        private long weight;
+        private int generation;
+        private long invalidatedAt;
+    }
+
+    private static final class CachedRecord {
+        private final Record record;
+        private final long loadedAt;
+        private final long weight;
+
+        private CachedRecord(Record record, long loadedAt, long weight) {
+            this.record = record;
+            this.loadedAt = loadedAt;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link AerospikeReader} which coalesces concurrent single record reads
+ * into batch reads.
+ *
+ * <p>
+ * The first {@link #get(Policy, Key)} call opens a batch and waits up to the
+ * configured window for other threads to add their keys, the batch is read
+ * with one {@link AerospikeReader#get(BatchPolicy, Key[])} call as soon as the
+ * window elapses or the batch is full, and every caller gets its own record.
+ * A caller without concurrent readers therefore waits for the whole window,
+ * size the window well below the read latency.
+ * </p>
+ *
+ * <p>
+ * Only reads of entire records with the default policy, a null
+ * {@link Policy}, are coalesced; reads with an explicit policy or bin names
+ * and batch reads are passed on as is. If the batch read fails, every caller
+ * of the batch gets the failure.
+ * </p>
+ */
+public class CoalescingAerospikeReader implements AerospikeReader {
+    /**
+     * The reader performing the reads.
+     */
+    private final AerospikeReader delegate;
+
+    /**
+     * Policy of the coalesced batch reads.
+     */
+    @Nullable
+    private final BatchPolicy batchPolicy;
+
+    /**
+     * Maximum time in nanoseconds to wait for other reads to join a batch.
+     */
+    private final long windowNanos;
+
+    /**
+     * Number of keys that closes a batch before its window elapses.
+     */
+    private final int maxBatchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchClosed = lock.newCondition();
+
+    /**
+     * The batch accepting reads, guarded by {@link #lock}.
+     */
+    @Nullable
+    private PendingBatch openBatch;
+
+    /**
+     * Create a coalescing reader.
+     *
+     * @param delegate     the reader performing the reads.
+     * @param batchPolicy  policy of the coalesced batch reads, null for
+     *                     defaults.
+     * @param window       maximum time to wait for other reads to join a
+     *                     batch.
+     * @param maxBatchSize number of keys that closes a batch before its
+     *                     window elapses.
+     */
+    public CoalescingAerospikeReader(AerospikeReader delegate,
+                                     @Nullable BatchPolicy batchPolicy,
+                                     Duration window, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "maxBatchSize should be positive: " + maxBatchSize);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.batchPolicy = batchPolicy;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        return get(null, key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        if (policy != null) {
+            return delegate.get(policy, key);
+        }
+
+        CompletableFuture<Record> result = new CompletableFuture<>();
+        PendingBatch toRead = null;
+        lock.lock();
+        try {
+            PendingBatch batch = openBatch;
+            boolean leader = batch == null;
+            if (leader) {
+                batch = new PendingBatch();
+                openBatch = batch;
+            }
+            batch.add(key, result);
+
+            if (batch.size() >= maxBatchSize) {
+                toRead = close(batch);
+            } else if (leader) {
+                long remaining = windowNanos;
+                try {
+                    while (!batch.closed && remaining > 0) {
+                        remaining = batchClosed.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (!batch.closed) {
+                    toRead = close(batch);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (toRead != null) {
+            read(toRead);
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames)
+            throws AerospikeException {
+        return delegate.get(policy, key, binNames);
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records)
+            throws AerospikeException {
+        delegate.get(policy, records);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        return delegate.get(policy, keys);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+            throws AerospikeException {
+        return delegate.get(policy, keys, binNames);
+    }
+
+    @Override
+    public boolean exists(Policy policy, Key key) throws AerospikeException {
+        return delegate.exists(policy, key);
+    }
+
+    @Override
+    public boolean[] exists(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        return delegate.exists(policy, keys);
+    }
+
+    @Override
+    public Record getHeader(Policy policy, Key key) throws AerospikeException {
+        return delegate.getHeader(policy, key);
+    }
+
+    @Override
+    public Record[] getHeader(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        return delegate.getHeader(policy, keys);
+    }
+
+    @Override
+    public Record operate(Policy policy, Key key, Operation... operations)
+            throws AerospikeException {
+        return delegate.operate(policy, key, operations);
+    }
+
+    @Override
+    public Record[] operate(BatchPolicy policy, Key[] keys,
+                            Operation... operations) throws AerospikeException {
+        return delegate.operate(policy, keys, operations);
+    }
+
+    private PendingBatch close(PendingBatch batch) {
+        batch.closed = true;
+        if (openBatch == batch) {
+            openBatch = null;
+        }
+        batchClosed.signalAll();
+        return batch;
+    }
+
+    private void read(PendingBatch batch) {
+        Record[] records;
+        try {
+            records = delegate.get(batchPolicy,
+                    batch.keys.toArray(new Key[0]));
+        } catch (Throwable e) {
+            // Complete on errors too, or the waiting reads hang. The reader
+            // of the batch gets the error from its own result.
+            for (CompletableFuture<Record> result : batch.results) {
+                result.completeExceptionally(e);
+            }
+            return;
+        }
+        for (int i = 0; i < records.length; i++) {
+            batch.results.get(i).complete(records[i]);
+        }
+    }
+
+    /**
+     * Keys waiting to be read together, guarded by {@link #lock} until the
+     * batch is closed.
+     */
+    private static final class PendingBatch {
+        private final List<Key> keys = new ArrayList<>();
+        private final List<CompletableFuture<Record>> results =
+                new ArrayList<>();
+        private boolean closed;
+
+        private void add(Key key, CompletableFuture<Record> result) {
+            keys.add(key);
+            results.add(result);
+        }
+
+        private int size() {
+            return keys.size();
+        }
+    }
+}
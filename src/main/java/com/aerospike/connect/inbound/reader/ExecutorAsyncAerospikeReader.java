@@ -0,0 +1,150 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.AsyncAerospikeReader;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AsyncAerospikeReader} that runs the reads of a blocking
+ * {@link AerospikeReader} on an {@link Executor}.
+ *
+ * <p>
+ * Reads still hold an executor thread for the whole round trip; use it where
+ * an event loop backed reader is not available, for example in tests.
+ * </p>
+ */
+public class ExecutorAsyncAerospikeReader implements AsyncAerospikeReader {
+    /**
+     * The blocking reader performing the reads.
+     */
+    private final AerospikeReader reader;
+
+    /**
+     * The executor running the blocking reads.
+     */
+    private final Executor executor;
+
+    /**
+     * Create an asynchronous view of a blocking reader.
+     *
+     * @param reader   the blocking reader performing the reads.
+     * @param executor the executor running the blocking reads.
+     */
+    public ExecutorAsyncAerospikeReader(AerospikeReader reader, Executor executor) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public CompletableFuture<Record> getAsync(Policy policy, Key key) {
+        return supply(() -> reader.get(policy, key));
+    }
+
+    @Override
+    public CompletableFuture<Record> getAsync(Policy policy, Key key,
+                                             String... binNames) {
+        return supply(() -> reader.get(policy, key, binNames));
+    }
+
+    @Override
+    public CompletableFuture<List<BatchRead>> getAsync(BatchPolicy policy,
+                                                       List<BatchRead> records) {
+        return supply(() -> {
+            reader.get(policy, records);
+            return records;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Record[]> getAsync(BatchPolicy policy, Key[] keys) {
+        return supply(() -> reader.get(policy, keys));
+    }
+
+    @Override
+    public CompletableFuture<Record[]> getAsync(BatchPolicy policy, Key[] keys,
+                                               String... binNames) {
+        return supply(() -> reader.get(policy, keys, binNames));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(Policy policy, Key key) {
+        return supply(() -> reader.exists(policy, key));
+    }
+
+    @Override
+    public CompletableFuture<boolean[]> existsAsync(BatchPolicy policy,
+                                                    Key[] keys) {
+        return supply(() -> reader.exists(policy, keys));
+    }
+
+    @Override
+    public CompletableFuture<Record> getHeaderAsync(Policy policy, Key key) {
+        return supply(() -> reader.getHeader(policy, key));
+    }
+
+    @Override
+    public CompletableFuture<Record[]> getHeaderAsync(BatchPolicy policy,
+                                                      Key[] keys) {
+        return supply(() -> reader.getHeader(policy, keys));
+    }
+
+    @Override
+    public CompletableFuture<Record> operateAsync(Policy policy, Key key,
+                                                 Operation... operations) {
+        return supply(() -> reader.operate(policy, key, operations));
+    }
+
+    @Override
+    public CompletableFuture<Record[]> operateAsync(BatchPolicy policy,
+                                                   Key[] keys,
+                                                   Operation... operations) {
+        return supply(() -> reader.operate(policy, keys, operations));
+    }
+
+    /**
+     * Run a read on the executor. Unlike
+     * {@link CompletableFuture#supplyAsync}, a failed read completes the
+     * future with its own exception rather than a
+     * {@link java.util.concurrent.CompletionException} wrapping it.
+     */
+    private <T> CompletableFuture<T> supply(Supplier<T> read) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(read.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AerospikeReader} which collapses concurrent reads of the same
+ * record into a single read.
+ *
+ * <p>
+ * While a read of a key and set of bin names is in flight, other threads
+ * reading the same key and bin names wait for it and share its
+ * {@link Record}, or its failure, instead of issuing their own read. Nothing
+ * is retained once the read completes, a read started afterwards goes to the
+ * underlying reader again.
+ * </p>
+ *
+ * <p>
+ * The policy of the read in flight is used for all the collapsed reads. The
+ * shared {@link Record} must not be modified. Batch reads are passed on as is.
+ * </p>
+ */
+public class SingleFlightAerospikeReader implements AerospikeReader {
+    /**
+     * The reader performing the reads.
+     */
+    private final AerospikeReader delegate;
+
+    /**
+     * Reads in flight.
+     */
+    private final ConcurrentMap<ReadKey, CompletableFuture<Record>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final LongAdder sharedReads = new LongAdder();
+
+    /**
+     * Create a single flight reader.
+     *
+     * @param delegate the reader performing the reads.
+     */
+    public SingleFlightAerospikeReader(AerospikeReader delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        return get(null, key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        return read(new ReadKey(key, null), () -> delegate.get(policy, key));
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames)
+            throws AerospikeException {
+        return read(new ReadKey(key, BinSelection.of(binNames)),
+                () -> delegate.get(policy, key, binNames));
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records)
+            throws AerospikeException {
+        delegate.get(policy, records);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        return delegate.get(policy, keys);
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames)
+            throws AerospikeException {
+        return delegate.get(policy, keys, binNames);
+    }
+
+    @Override
+    public boolean exists(Policy policy, Key key) throws AerospikeException {
+        return delegate.exists(policy, key);
+    }
+
+    @Override
+    public boolean[] exists(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        return delegate.exists(policy, keys);
+    }
+
+    @Override
+    public Record getHeader(Policy policy, Key key) throws AerospikeException {
+        return delegate.getHeader(policy, key);
+    }
+
+    @Override
+    public Record[] getHeader(BatchPolicy policy, Key[] keys)
+            throws AerospikeException {
+        return delegate.getHeader(policy, keys);
+    }
+
+    @Override
+    public Record operate(Policy policy, Key key, Operation... operations)
+            throws AerospikeException {
+        return delegate.operate(policy, key, operations);
+    }
+
+    @Override
+    public Record[] operate(BatchPolicy policy, Key[] keys,
+                            Operation... operations) throws AerospikeException {
+        return delegate.operate(policy, keys, operations);
+    }
+
+    /**
+     * Get the number of reads which were served by another read in flight.
+     *
+     * @return the shared read count.
+     */
+    public long getSharedReadCount() {
+        return sharedReads.sum();
+    }
+
+    private Record read(ReadKey readKey, Supplier<Record> reader) {
+        CompletableFuture<Record> result = new CompletableFuture<>();
+        CompletableFuture<Record> existing = inFlight.putIfAbsent(readKey, result);
+        if (existing != null) {
+            sharedReads.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Record record = reader.get();
+            result.complete(record);
+            return record;
+        } catch (Throwable e) {
+            // Complete on errors too, or the waiting reads hang.
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(readKey, result);
+        }
+    }
+
+    private static final class ReadKey {
+        private final Key key;
+        @Nullable
+        private final BinSelection bins;
+
+        private ReadKey(Key key, @Nullable BinSelection bins) {
+            this.key = key;
+            this.bins = bins;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ReadKey)) {
+                return false;
+            }
+            ReadKey other = (ReadKey) o;
+            return key.equals(other.key) && Objects.equals(bins, other.bins);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Objects.hashCode(bins);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+import com.aerospike.connect.inbound.model.InboundMessage;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Reads the messages of a replay file written by {@link ReplayFileWriter}.
+ *
+ * <p>
+ * The file is read through a memory-mapped window which slides over the
+ * file, so files larger than the memory of the process are streamed from
+ * the page cache without copying them into heap buffers first. It is not
+ * thread safe.
+ * </p>
+ */
+public class ReplayFileReader implements Closeable {
+    /**
+     * The default size of the mapped window.
+     */
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The replay file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of the replay file.
+     */
+    private final long size;
+
+    /**
+     * The size of the mapped window.
+     */
+    private final int windowSize;
+
+    /**
+     * The mapped window of the file.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The position in the file of the start of the {@link #window}.
+     */
+    private long windowStart;
+
+    /**
+     * Open a replay file.
+     *
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be opened or is not a replay
+     *                     file.
+     */
+    public ReplayFileReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Open a replay file with the given size of the mapped window.
+     */
+    ReplayFileReader(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+
+        try {
+            map(0, ReplayFormat.HEADER_SIZE);
+            if (window.getInt() != ReplayFormat.MAGIC) {
+                throw new IOException(path + " is not a replay file");
+            }
+            int version = window.getInt();
+            if (version != ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay file version " +
+                        version);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read the next message. The message is the map of fields of the
+     * message, it has no Aerospike key or write policy.
+     *
+     * @return the next message, or null at the end of the file.
+     * @throws IOException if the file cannot be read, is truncated or the
+     *                     message is corrupt.
+     */
+    @Nullable
+    public InboundMessage<Object, Object> next() throws IOException {
+        long position = windowStart + window.position();
+        if (position >= size) {
+            return null;
+        }
+
+        require(Integer.BYTES);
+        int length = window.getInt();
+        if (length < 0) {
+            throw new IOException("Corrupt record at " + position +
+                    ", negative length " + length);
+        }
+        require(length);
+
+        // Limit the window to the record so a corrupt record cannot read
+        // into the next one.
+        int end = window.position() + length;
+        int limit = window.limit();
+        Object messageKey;
+        Object fields;
+        window.limit(end);
+        try {
+            messageKey = readValue();
+            fields = readValue();
+            if (window.position() != end) {
+                throw new IOException("Corrupt record at " + position +
+                        ", " + (end - window.position()) +
+                        " bytes left over");
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Corrupt record at " + position +
+                    ", longer than its length " + length, e);
+        } finally {
+            window.limit(limit);
+        }
+        if (!(fields instanceof Map)) {
+            throw new IOException("Fields of the message are not a map");
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fieldMap = (Map<String, Object>) fields;
+        return new InboundMessage<>(messageKey, fieldMap, null, null,
+                fieldMap, Collections.emptySet());
+    }
+
+    /**
+     * Go back to the first message of the file.
+     *
+     * @throws IOException if the file cannot be mapped.
+     */
+    public void rewind() throws IOException {
+        map(ReplayFormat.HEADER_SIZE, 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Slide the window so that the given number of bytes are mapped from the
+     * current position.
+     */
+    private void require(int bytes) throws IOException {
+        if (window.remaining() >= bytes) {
+            return;
+        }
+
+        long position = windowStart + window.position();
+        if (bytes < 0 || position + bytes > size) {
+            throw new EOFException("Truncated replay file at " + position);
+        }
+        map(position, bytes);
+    }
+
+    private void map(long position, int minimumSize) throws IOException {
+        if (position + minimumSize > size) {
+            throw new EOFException("Truncated replay file at " + position);
+        }
+
+        long mappedSize = Math.min(size - position,
+                Math.max(windowSize, minimumSize));
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                mappedSize);
+        windowStart = position;
+    }
+
+    @Nullable
+    private Object readValue() throws IOException {
+        byte tag = window.get();
+        switch (tag) {
+            case ReplayFormat.NULL:
+                return null;
+            case ReplayFormat.LONG:
+                return window.getLong();
+            case ReplayFormat.DOUBLE:
+                return window.getDouble();
+            case ReplayFormat.TRUE:
+                return Boolean.TRUE;
+            case ReplayFormat.FALSE:
+                return Boolean.FALSE;
+            case ReplayFormat.STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case ReplayFormat.BYTES:
+                return readBytes();
+            case ReplayFormat.LIST: {
+                int count = readCount();
+                List<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue());
+                }
+                return list;
+            }
+            case ReplayFormat.MAP: {
+                int count = readCount();
+                Map<Object, Object> map = new HashMap<>(count * 4 / 3 + 1);
+                for (int i = 0; i < count; i++) {
+                    map.put(readValue(), readValue());
+                }
+                return map;
+            }
+            default:
+                throw new IOException("Unknown value tag " + tag + " at " +
+                        (windowStart + window.position() - 1));
+        }
+    }
+
+    private byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[readCount()];
+        window.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Read the number of bytes or elements of a value, every element takes
+     * at least a byte of the record.
+     */
+    private int readCount() throws IOException {
+        int count = window.getInt();
+        if (count < 0 || count > window.remaining()) {
+            throw new IOException("Corrupt count " + count + " at " +
+                    (windowStart + window.position() - Integer.BYTES));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Writes captured messages to a replay file for {@link TransformerReplay}.
+ *
+ * <p>
+ * A message is written as its message key and its fields, the values of
+ * which can be null, numbers, booleans, strings, byte arrays and lists and
+ * maps of those. Integral numbers are read back as longs and floating point
+ * numbers as doubles, like the Aerospike client returns them.
+ * </p>
+ */
+public class ReplayFileWriter implements Closeable {
+    /**
+     * The stream of the replay file.
+     */
+    private final DataOutputStream output;
+
+    /**
+     * Buffer of the record being written, to prefix it with its length.
+     */
+    private final ByteArrayOutputStream recordBytes =
+            new ByteArrayOutputStream();
+
+    /**
+     * Writes the values of the record being written.
+     */
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+    /**
+     * Create a replay file, replacing an existing file.
+     *
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be created.
+     */
+    public ReplayFileWriter(Path path) throws IOException {
+        this(Files.newOutputStream(path));
+    }
+
+    /**
+     * Write a replay file to a stream.
+     *
+     * @param output the stream to write to, closed by {@link #close()}.
+     * @throws IOException if the header cannot be written.
+     */
+    public ReplayFileWriter(OutputStream output) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.output.writeInt(ReplayFormat.MAGIC);
+        this.output.writeInt(ReplayFormat.VERSION);
+    }
+
+    /**
+     * Write a message.
+     *
+     * @param messageKey the key of the message, may be null.
+     * @param fields     the fields of the message.
+     * @throws IOException              if the message cannot be written.
+     * @throws IllegalArgumentException if a value has an unsupported type.
+     */
+    public void write(@Nullable Object messageKey, Map<String, ?> fields)
+            throws IOException {
+        recordBytes.reset();
+        writeValue(messageKey);
+        writeValue(fields);
+        record.flush();
+        output.writeInt(recordBytes.size());
+        recordBytes.writeTo(output);
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private void writeValue(@Nullable Object value) throws IOException {
+        if (value == null) {
+            record.writeByte(ReplayFormat.NULL);
+        } else if (value instanceof Long || value instanceof Integer ||
+                value instanceof Short || value instanceof Byte) {
+            record.writeByte(ReplayFormat.LONG);
+            record.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            record.writeByte(ReplayFormat.DOUBLE);
+            record.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            record.writeByte((Boolean) value ? ReplayFormat.TRUE :
+                    ReplayFormat.FALSE);
+        } else if (value instanceof CharSequence) {
+            writeBytes(ReplayFormat.STRING,
+                    value.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            writeBytes(ReplayFormat.BYTES, (byte[]) value);
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            record.writeByte(ReplayFormat.LIST);
+            record.writeInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            record.writeByte(ReplayFormat.MAP);
+            record.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value type " +
+                    value.getClass().getName());
+        }
+    }
+
+    private void writeBytes(byte tag, byte[] bytes) throws IOException {
+        record.writeByte(tag);
+        record.writeInt(bytes.length);
+        record.write(bytes);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+/**
+ * The layout of a replay file.
+ *
+ * <p>
+ * A replay file is a header followed by records until the end of the file.
+ * The header is the {@link #MAGIC} and the {@link #VERSION} as big endian
+ * ints. A record is its length in bytes as an int followed by the message
+ * key value and the fields map value. A value is a tag byte followed by
+ * </p>
+ * <ul>
+ *   <li>{@link #NULL}: nothing.</li>
+ *   <li>{@link #LONG}: a long.</li>
+ *   <li>{@link #DOUBLE}: a double.</li>
+ *   <li>{@link #TRUE}, {@link #FALSE}: nothing.</li>
+ *   <li>{@link #STRING}: the length as an int and the UTF-8 bytes.</li>
+ *   <li>{@link #BYTES}: the length as an int and the bytes.</li>
+ *   <li>{@link #LIST}: the size as an int and the values.</li>
+ *   <li>{@link #MAP}: the size as an int and the key and value of every
+ *   entry.</li>
+ * </ul>
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x41535250;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    static final byte NULL = 0;
+    static final byte LONG = 1;
+    static final byte DOUBLE = 2;
+    static final byte TRUE = 3;
+    static final byte FALSE = 4;
+    static final byte STRING = 5;
+    static final byte BYTES = 6;
+    static final byte LIST = 7;
+    static final byte MAP = 8;
+
+    private ReplayFormat() {
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+import com.aerospike.connect.inbound.metrics.LatencySnapshot;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+/**
+ * The result of replaying messages through a transformer with
+ * {@link TransformerReplay}.
+ */
+@Getter
+public class ReplayReport {
+    /**
+     * The number of messages transformed.
+     */
+    private final long messages;
+
+    /**
+     * The wall clock time of the replay in nanoseconds, including reading the
+     * messages.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * The median latency of a transform in nanoseconds.
+     */
+    private final long p50Nanos;
+
+    /**
+     * The 99th percentile latency of a transform in nanoseconds.
+     */
+    private final long p99Nanos;
+
+    /**
+     * The 99.9th percentile latency of a transform in nanoseconds.
+     */
+    private final long p999Nanos;
+
+    /**
+     * The maximum latency of a transform in nanoseconds.
+     */
+    private final long maxNanos;
+
+    /**
+     * The bytes allocated by the replaying thread, -1 if the runtime does not
+     * measure it.
+     */
+    private final long allocatedBytes;
+
+    /**
+     * The number of operations returned by the transformer by type of
+     * operation.
+     */
+    private final Map<String, Long> operationCounts;
+
+    ReplayReport(long messages, long elapsedNanos, LatencySnapshot latencies,
+                 long allocatedBytes, Map<String, Long> operationCounts) {
+        this.messages = messages;
+        this.elapsedNanos = elapsedNanos;
+        this.p50Nanos = latencies.getValueAtQuantile(0.5);
+        this.p99Nanos = latencies.getValueAtQuantile(0.99);
+        this.p999Nanos = latencies.getValueAtQuantile(0.999);
+        this.maxNanos = latencies.getMax();
+        this.allocatedBytes = allocatedBytes;
+        this.operationCounts = Collections.unmodifiableMap(operationCounts);
+    }
+
+    /**
+     * Get the number of messages transformed per second.
+     *
+     * @return the throughput in messages per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 :
+                messages * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Get the bytes allocated per message.
+     *
+     * @return the bytes allocated per message, -1 if not measured.
+     */
+    public double getAllocatedBytesPerMessage() {
+        if (allocatedBytes < 0) {
+            return -1;
+        }
+        return messages == 0 ? 0 : (double) allocatedBytes / messages;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("messages      %d%n", messages));
+        report.append(String.format("elapsed       %.3f s%n",
+                elapsedNanos / 1e9));
+        report.append(String.format("throughput    %.0f msgs/s%n",
+                getThroughput()));
+        report.append(String.format("latency       p50 %s  p99 %s  " +
+                        "p99.9 %s  max %s%n", micros(p50Nanos),
+                micros(p99Nanos), micros(p999Nanos), micros(maxNanos)));
+        if (allocatedBytes < 0) {
+            report.append(String.format("allocation    not measured%n"));
+        } else {
+            report.append(String.format("allocation    %.0f B/msg  %.1f MB/s%n",
+                    getAllocatedBytesPerMessage(), elapsedNanos == 0 ? 0 :
+                            allocatedBytes / 1e6 / (elapsedNanos / 1e9)));
+        }
+
+        report.append(String.format("operations%n"));
+        operationCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(
+                        Comparator.reverseOrder()))
+                .forEach(entry -> report.append(String.format(
+                        "  %-40s %6.2f%% %d%n", entry.getKey(),
+                        messages == 0 ? 0 : 100.0 * entry.getValue() / messages,
+                        entry.getValue())));
+        return report.toString();
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f us", nanos / 1e3);
+    }
+}
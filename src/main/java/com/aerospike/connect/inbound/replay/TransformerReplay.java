@@ -0,0 +1,368 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.memory.InMemoryAerospikeReader;
+import com.aerospike.connect.inbound.memory.InMemoryOperationApplier;
+import com.aerospike.connect.inbound.memory.InMemoryRecordStore;
+import com.aerospike.connect.inbound.metrics.LatencyHistogram;
+import com.aerospike.connect.inbound.metrics.LatencySnapshot;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.model.InboundMessageTransformerConfig;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Replays the messages of a replay file through a transformer as fast as
+ * possible and reports the throughput, the latency percentiles and the
+ * allocation of the transforms and the mix of operations returned.
+ *
+ * <p>
+ * Transformers read from and optionally write to an
+ * {@link InMemoryRecordStore}, so a replay needs no cluster. Run it from the
+ * command line with the SDK, the transformer and their dependencies on the
+ * class path:
+ * </p>
+ * <pre>
+ * java com.aerospike.connect.inbound.replay.TransformerReplay \
+ *     --input messages.replay --transformer com.example.MyTransformer \
+ *     --config topicName=users --warmup-passes 2 --passes 3 \
+ *     --min-throughput 100000 --max-p99-micros 50
+ * </pre>
+ * <p>
+ * The process exits with status 1 if the throughput or the 99th percentile
+ * latency misses the given threshold, so that it can gate the deployment of
+ * a transformer.
+ * </p>
+ */
+public class TransformerReplay {
+    private static final String USAGE = "Usage: TransformerReplay" +
+            " --input <file> --transformer <class>" +
+            " [--config <key>=<value>]... [--warmup-passes <n>]" +
+            " [--passes <n>] [--apply] [--reader-latency-micros <n>]" +
+            " [--min-throughput <msgs/s>] [--max-p99-micros <n>]";
+
+    /**
+     * The transformer to replay the messages through.
+     */
+    private final InboundMessageTransformer<InboundMessage<Object, Object>>
+            transformer;
+
+    /**
+     * Applies the operations returned by the transformer, null to discard
+     * them.
+     */
+    @Nullable
+    private final InMemoryOperationApplier applier;
+
+    /**
+     * Create a replay.
+     *
+     * @param transformer the transformer to replay the messages through.
+     * @param applier     applies the operations returned by the transformer
+     *                    outside of the measured transform, null to discard
+     *                    them.
+     */
+    public TransformerReplay(
+            InboundMessageTransformer<InboundMessage<Object, Object>> transformer,
+            @Nullable InMemoryOperationApplier applier) {
+        this.transformer = Objects.requireNonNull(transformer, "transformer");
+        this.applier = applier;
+    }
+
+    /**
+     * Replay the messages of a replay file.
+     *
+     * @param reader       the replay file.
+     * @param warmupPasses the number of passes over the file which are not
+     *                     measured.
+     * @param passes       the number of measured passes over the file.
+     * @return the report of the measured passes.
+     * @throws IOException if the replay file cannot be read.
+     */
+    public ReplayReport replay(ReplayFileReader reader, int warmupPasses,
+                               int passes) throws IOException {
+        for (int pass = 0; pass < warmupPasses; pass++) {
+            reader.rewind();
+            for (InboundMessage<Object, Object> message = reader.next();
+                 message != null; message = reader.next()) {
+                apply(transformer.transform(message));
+            }
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations =
+                threads instanceof com.sun.management.ThreadMXBean &&
+                        ((com.sun.management.ThreadMXBean) threads)
+                                .isThreadAllocatedMemoryEnabled() ?
+                        (com.sun.management.ThreadMXBean) threads : null;
+        long threadId = Thread.currentThread().getId();
+
+        LatencyHistogram latencies = new LatencyHistogram(1);
+        Map<Class<?>, long[]> operationCounts = new HashMap<>();
+        long allocatedBytes = 0;
+        long start = System.nanoTime();
+        for (int pass = 0; pass < passes; pass++) {
+            reader.rewind();
+            for (InboundMessage<Object, Object> message = reader.next();
+                 message != null; message = reader.next()) {
+                long allocatedBefore = allocations == null ? 0 :
+                        allocations.getThreadAllocatedBytes(threadId);
+                long transformStart = System.nanoTime();
+                AerospikeRecordOperation operation =
+                        transformer.transform(message);
+                latencies.record(System.nanoTime() - transformStart);
+                if (allocations != null) {
+                    allocatedBytes += allocations.getThreadAllocatedBytes(
+                            threadId) - allocatedBefore;
+                }
+
+                operationCounts.computeIfAbsent(operation.getClass(),
+                        type -> new long[1])[0]++;
+                apply(operation);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, Long> operationCountsByName = new LinkedHashMap<>();
+        operationCounts.forEach((type, count) ->
+                operationCountsByName.put(type.getSimpleName(), count[0]));
+        LatencySnapshot snapshot = latencies.snapshot();
+        return new ReplayReport(snapshot.getCount(), elapsed, snapshot,
+                allocations == null ? -1 : allocatedBytes,
+                operationCountsByName);
+    }
+
+    /**
+     * Create the transformer of a transformer config the way the connector
+     * injects it, with its public constructor taking the most parameters of
+     * which each is an {@link AerospikeReader} or an
+     * {@link InboundMessageTransformerConfig}.
+     *
+     * @param config the config naming the transformer class.
+     * @param reader the reader to inject into the transformer.
+     * @return a new transformer.
+     * @throws IllegalArgumentException if the transformer cannot be created.
+     */
+    public static InboundMessageTransformer<InboundMessage<Object, Object>> newTransformer(
+            InboundMessageTransformerConfig config, AerospikeReader reader) {
+        Class<?> transformerClass = config.getInboundMessageTransformerClass();
+        if (transformerClass == null) {
+            throw new IllegalArgumentException("No transformer class");
+        }
+
+        Constructor<?> constructor = null;
+        for (Constructor<?> candidate : transformerClass.getConstructors()) {
+            boolean injectable = true;
+            for (Class<?> parameterType : candidate.getParameterTypes()) {
+                injectable &= parameterType == AerospikeReader.class ||
+                        parameterType == InboundMessageTransformerConfig.class;
+            }
+            if (injectable && (constructor == null ||
+                    candidate.getParameterCount() >
+                            constructor.getParameterCount())) {
+                constructor = candidate;
+            }
+        }
+        if (constructor == null) {
+            throw new IllegalArgumentException("No public constructor of " +
+                    transformerClass.getName() + " taking an " +
+                    "AerospikeReader or an InboundMessageTransformerConfig");
+        }
+
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = parameterTypes[i] == AerospikeReader.class ?
+                    reader : config;
+        }
+
+        try {
+            @SuppressWarnings("unchecked")
+            InboundMessageTransformer<InboundMessage<Object, Object>> transformer =
+                    (InboundMessageTransformer<InboundMessage<Object, Object>>)
+                            constructor.newInstance(arguments);
+            return transformer;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create " +
+                    transformerClass.getName(), e);
+        }
+    }
+
+    /**
+     * Replay a replay file from the command line.
+     *
+     * @param args the command line arguments, see the class documentation.
+     * @throws Exception if the replay fails.
+     */
+    public static void main(String[] args) throws Exception {
+        int status;
+        try {
+            status = run(args, System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            status = 2;
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Run a replay from command line arguments.
+     *
+     * @return 0 if the thresholds are met, 1 otherwise.
+     */
+    static int run(String[] args, PrintStream out) throws IOException {
+        Path input = null;
+        String transformerClassName = null;
+        Map<String, Object> transformerConfig = new LinkedHashMap<>();
+        int warmupPasses = 1;
+        int passes = 1;
+        boolean apply = false;
+        long readerLatencyMicros = 0;
+        double minThroughput = 0;
+        long maxP99Micros = Long.MAX_VALUE;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--input":
+                    input = Paths.get(argument(args, ++i));
+                    break;
+                case "--transformer":
+                    transformerClassName = argument(args, ++i);
+                    break;
+                case "--config": {
+                    String entry = argument(args, ++i);
+                    int separator = entry.indexOf('=');
+                    if (separator < 1) {
+                        throw new IllegalArgumentException(
+                                "Invalid config " + entry);
+                    }
+                    transformerConfig.put(entry.substring(0, separator),
+                            entry.substring(separator + 1));
+                    break;
+                }
+                case "--warmup-passes":
+                    warmupPasses = Integer.parseInt(argument(args, ++i));
+                    break;
+                case "--passes":
+                    passes = Integer.parseInt(argument(args, ++i));
+                    break;
+                case "--apply":
+                    apply = true;
+                    break;
+                case "--reader-latency-micros":
+                    readerLatencyMicros = Long.parseLong(argument(args, ++i));
+                    break;
+                case "--min-throughput":
+                    minThroughput = Double.parseDouble(argument(args, ++i));
+                    break;
+                case "--max-p99-micros":
+                    maxP99Micros = Long.parseLong(argument(args, ++i));
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown argument " + args[i]);
+            }
+        }
+        if (input == null || transformerClassName == null) {
+            throw new IllegalArgumentException(
+                    "--input and --transformer are required");
+        }
+
+        InMemoryRecordStore store = new InMemoryRecordStore();
+        InboundMessageTransformer<InboundMessage<Object, Object>> transformer =
+                newTransformer(new InboundMessageTransformerConfig(
+                                loadTransformerClass(transformerClassName),
+                                transformerConfig, true),
+                        new InMemoryAerospikeReader(store,
+                                Duration.ofNanos(readerLatencyMicros * 1000)));
+        TransformerReplay replay = new TransformerReplay(transformer,
+                apply ? new InMemoryOperationApplier(store) : null);
+
+        ReplayReport report;
+        try (ReplayFileReader reader = new ReplayFileReader(input)) {
+            report = replay.replay(reader, warmupPasses, passes);
+        }
+        out.print(report);
+
+        boolean passed = true;
+        if (report.getThroughput() < minThroughput) {
+            out.printf("FAILED throughput %.0f msgs/s is below %.0f msgs/s%n",
+                    report.getThroughput(), minThroughput);
+            passed = false;
+        }
+        if (report.getP99Nanos() >
+                TimeUnit.MICROSECONDS.toNanos(maxP99Micros)) {
+            out.printf("FAILED p99 latency %d us is above %d us%n",
+                    report.getP99Nanos() / 1000, maxP99Micros);
+            passed = false;
+        }
+        return passed ? 0 : 1;
+    }
+
+    private void apply(AerospikeRecordOperation operation) {
+        if (applier != null) {
+            applier.apply(operation);
+        }
+    }
+
+    private static String argument(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(
+                    "Missing value of " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static Class<? extends InboundMessageTransformer<?>> loadTransformerClass(
+            String className) {
+        Class<?> transformerClass;
+        try {
+            transformerClass = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException(
+                    "Transformer class " + className + " not found", e);
+        }
+        if (!InboundMessageTransformer.class.isAssignableFrom(transformerClass)) {
+            throw new IllegalArgumentException(className +
+                    " is not an InboundMessageTransformer");
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<? extends InboundMessageTransformer<?>> result =
+                (Class<? extends InboundMessageTransformer<?>>) transformerClass;
+        return result;
+    }
+}
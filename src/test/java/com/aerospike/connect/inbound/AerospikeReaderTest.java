@@ -0,0 +1,118 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the default methods of {@link AerospikeReader}.
+ */
+class AerospikeReaderTest {
+    private final Key key1 = new Key("test", "demo", 1);
+    private final Key key2 = new Key("test", "demo", 2);
+    private final Record record = new Record(Collections.singletonMap("size", 3L), 7, 0);
+    private final List<BatchRead> batchReads = new ArrayList<>();
+
+    private final AerospikeReader reader = new AerospikeReader() {
+        @Override
+        @Deprecated
+        public Record getRecord(Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Record get(Policy policy, Key key) {
+            return key.equals(key1) ? record : null;
+        }
+
+        @Override
+        public Record get(Policy policy, Key key, String... binNames) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void get(BatchPolicy policy, List<BatchRead> records) {
+            for (BatchRead read : records) {
+                batchReads.add(read);
+                read.record = get(policy, read.key);
+            }
+        }
+
+        @Override
+        public Record[] get(BatchPolicy policy, Key[] keys) {
+            Record[] records = new Record[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                records[i] = get(policy, keys[i]);
+            }
+            return records;
+        }
+
+        @Override
+        public Record[] get(BatchPolicy policy, Key[] keys, String... binNames) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @Test
+    void testHeaderReadsDropBins() {
+        Record header = reader.getHeader(null, key1);
+        assertNull(header.bins);
+        assertEquals(7, header.generation);
+        assertNull(reader.getHeader(null, key2));
+        assertArrayEquals(new boolean[]{true, false},
+                reader.exists(null, new Key[]{key1, key2}));
+    }
+
+    @Test
+    void testOperateReadsWithBatchRead() {
+        Operation size = Operation.get("size");
+
+        assertSame(record, reader.operate(null, key1, size));
+        Record[] records = reader.operate(null, new Key[]{key1, key2}, size);
+        assertSame(record, records[0]);
+        assertNull(records[1]);
+        assertEquals(3, batchReads.size());
+        assertSame(size, batchReads.get(0).ops[0]);
+    }
+
+    @Test
+    void testOperateRejectsWriteOperations() {
+        AerospikeException e = assertThrows(AerospikeException.class,
+                () -> reader.operate(null, key1, Operation.put(new Bin("a", 1))));
+        assertEquals(ResultCode.PARAMETER_ERROR, e.getResultCode());
+    }
+}
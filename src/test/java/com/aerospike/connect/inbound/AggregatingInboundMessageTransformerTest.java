@@ -0,0 +1,180 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.connect.inbound.operation.AerospikeCompositeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeDeleteOperation;
+import com.aerospike.connect.inbound.operation.AerospikeOperateOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AggregatingInboundMessageTransformer}.
+ */
+class AggregatingInboundMessageTransformerTest {
+    private static final Key KEY = new Key("test", "demo", "dealership");
+
+    /**
+     * Counts sales by message, a negative profit deletes the record.
+     */
+    private static class SalesTransformer extends AggregatingInboundMessageTransformer<Double> {
+        SalesTransformer(int maxMessages, int maxCounters) {
+            super(Duration.ofHours(1), maxMessages, maxCounters);
+        }
+
+        @Override
+        protected AerospikeRecordOperation aggregate(Double profit, Increments increments) {
+            if (profit < 0) {
+                return new AerospikeDeleteOperation(KEY, null);
+            }
+            increments.increment(KEY, "sales", Value.get("count"), 1);
+            increments.increment(KEY, "sales", Value.get("profit"), profit);
+            return new AerospikeSkipRecordOperation();
+        }
+    }
+
+    /**
+     * Counts and sums values, a negative value fails after its increments.
+     */
+    private static class TotalTransformer extends AggregatingInboundMessageTransformer<Long> {
+        TotalTransformer() {
+            super(Duration.ofHours(1), 100, 100);
+        }
+
+        @Override
+        protected AerospikeRecordOperation aggregate(Long value, Increments increments) {
+            increments.increment(KEY, "count", 1L);
+            increments.increment(KEY, "total", value);
+            if (value < 0) {
+                throw new IllegalArgumentException("negative value");
+            }
+            return new AerospikeSkipRecordOperation();
+        }
+    }
+
+    @Test
+    void testFlushesAfterMaxMessages() {
+        SalesTransformer transformer = new SalesTransformer(3, 100);
+
+        assertInstanceOf(AerospikeSkipRecordOperation.class, transformer.transform(1.5));
+        assertInstanceOf(AerospikeSkipRecordOperation.class, transformer.transform(2.0));
+        assertInstanceOf(AerospikeSkipRecordOperation.class, transformer.transform(0.5));
+        assertEquals(2, transformer.getPendingCount());
+
+        AerospikeOperateOperation operation =
+                assertInstanceOf(AerospikeOperateOperation.class, transformer.transform(1.0));
+        assertEquals(KEY, operation.getKey());
+        List<Operation> ops = operation.getOperations();
+        assertEquals(2, ops.size());
+        assertEquals(Operation.Type.MAP_MODIFY, ops.get(0).type);
+        // The increments of the flushing message start the next window.
+        assertEquals(2, transformer.getPendingCount());
+    }
+
+    @Test
+    void testFlushesPendingIncrementsBeforeWriteToSameKey() {
+        SalesTransformer transformer = new SalesTransformer(100, 100);
+
+        transformer.transform(1.0);
+        AerospikeCompositeRecordOperation operation =
+                assertInstanceOf(AerospikeCompositeRecordOperation.class, transformer.transform(-1.0));
+        assertEquals(2, operation.getOperations().size());
+        assertInstanceOf(AerospikeOperateOperation.class, operation.getOperations().get(0));
+        assertInstanceOf(AerospikeDeleteOperation.class, operation.getOperations().get(1));
+        assertEquals(0, transformer.getPendingCount());
+    }
+
+    @Test
+    void testFlushesOnMemoryBudget() {
+        SalesTransformer transformer = new SalesTransformer(100, 2);
+
+        assertInstanceOf(AerospikeSkipRecordOperation.class, transformer.transform(1.0));
+        assertInstanceOf(AerospikeOperateOperation.class, transformer.transform(1.0));
+        assertEquals(2, transformer.getPendingCount());
+    }
+
+    @Test
+    void testFlushesAtEndOfBatch() {
+        SalesTransformer transformer = new SalesTransformer(100, 100);
+
+        List<AerospikeRecordOperation> operations =
+                transformer.transformBatch(Arrays.asList(1.0, 2.0, -1.0, 3.0));
+        assertEquals(4, operations.size());
+        assertInstanceOf(AerospikeSkipRecordOperation.class, operations.get(0));
+        assertInstanceOf(AerospikeSkipRecordOperation.class, operations.get(1));
+        AerospikeCompositeRecordOperation delete =
+                assertInstanceOf(AerospikeCompositeRecordOperation.class, operations.get(2));
+        assertInstanceOf(AerospikeOperateOperation.class, delete.getOperations().get(0));
+        assertInstanceOf(AerospikeDeleteOperation.class, delete.getOperations().get(1));
+        AerospikeOperateOperation last =
+                assertInstanceOf(AerospikeOperateOperation.class, operations.get(3));
+        assertSame(KEY, last.getKey());
+        assertEquals(0, transformer.getPendingCount());
+    }
+
+    @Test
+    void testDropsIncrementsOfFailedMessage() {
+        TotalTransformer transformer = new TotalTransformer();
+
+        transformer.transform(5L);
+        assertThrows(IllegalArgumentException.class, () -> transformer.transform(-1L));
+        List<AerospikeRecordOperation> operations = transformer.transformBatch(Collections.singletonList(2L));
+
+        assertTotals(operations.get(0), 2, 7);
+    }
+
+    @Test
+    void testRetriedBatchIsNotCountedTwice() {
+        TotalTransformer transformer = new TotalTransformer();
+
+        transformer.transform(10L);
+        assertThrows(IllegalArgumentException.class,
+                () -> transformer.transformBatch(Arrays.asList(1L, 2L, -1L)));
+        assertEquals(2, transformer.getPendingCount());
+        List<AerospikeRecordOperation> operations = transformer.transformBatch(Arrays.asList(1L, 2L, 3L));
+
+        assertTotals(operations.get(2), 4, 16);
+    }
+
+    private static void assertTotals(AerospikeRecordOperation operation, long count, long total) {
+        AerospikeOperateOperation operate = assertInstanceOf(AerospikeOperateOperation.class, operation);
+        Map<String, Long> values = new HashMap<>();
+        for (Operation op : operate.getOperations()) {
+            assertEquals(Operation.Type.ADD, op.type);
+            values.put(op.binName, op.value.toLong());
+        }
+        assertEquals(count, values.get("count").longValue());
+        assertEquals(total, values.get("total").longValue());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AsyncInboundMessageTransformer}.
+ */
+class AsyncInboundMessageTransformerTest {
+    @Test
+    void testTransformWaitsForTheStage() {
+        AerospikeRecordOperation operation = new AerospikeSkipRecordOperation();
+        AsyncInboundMessageTransformer<String> transformer =
+                input -> CompletableFuture.completedFuture(operation);
+
+        assertSame(operation, transformer.transform("message"));
+    }
+
+    @Test
+    void testTransformRethrowsTheFailureCause() {
+        AsyncInboundMessageTransformer<String> transformer = input -> {
+            CompletableFuture<AerospikeRecordOperation> future = new CompletableFuture<>();
+            future.completeExceptionally(new IllegalArgumentException("bad message"));
+            return future;
+        };
+
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> transformer.transform("message"));
+        assertEquals("bad message", e.getMessage());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.operation.AerospikeDeleteOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link InboundMessageTransformerBatchAdapter}.
+ */
+class InboundMessageTransformerBatchAdapterTest {
+    private final InboundMessageTransformer<String> transformer = input ->
+            input.isEmpty()
+                    ? new AerospikeSkipRecordOperation()
+                    : new AerospikeDeleteOperation(new Key("test", "demo", input), null);
+
+    @Test
+    void testBatchIsTransformedInOrder() {
+        List<AerospikeRecordOperation> operations =
+                new InboundMessageTransformerBatchAdapter<>(transformer)
+                        .transformBatch(Arrays.asList("a", "", "b"));
+
+        assertEquals(3, operations.size());
+        assertEquals(new Key("test", "demo", "a"), ((AerospikeDeleteOperation) operations.get(0)).getKey());
+        assertTrue(operations.get(1) instanceof AerospikeSkipRecordOperation);
+        assertEquals(new Key("test", "demo", "b"), ((AerospikeDeleteOperation) operations.get(2)).getKey());
+    }
+
+    @Test
+    void testSingleMessageTransformDelegates() {
+        AerospikeRecordOperation operation =
+                new InboundMessageTransformerBatchAdapter<>(transformer).transform("");
+
+        assertTrue(operation instanceof AerospikeSkipRecordOperation);
+    }
+}
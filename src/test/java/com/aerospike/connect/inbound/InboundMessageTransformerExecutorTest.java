@@ -0,0 +1,85 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.connect.inbound.model.InboundMessageTransformerConfig;
+import com.aerospike.connect.inbound.model.TransformerExecutionMode;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link InboundMessageTransformerExecutor}.
+ */
+class InboundMessageTransformerExecutorTest {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final InboundMessageTransformer<Integer> blockingTransformer = input -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+        return new AerospikeSkipRecordOperation();
+    };
+
+    @Test
+    void testLimitsTransformsInFlight() {
+        for (TransformerExecutionMode mode : TransformerExecutionMode.values()) {
+            maxInFlight.set(0);
+            try (InboundMessageTransformerExecutor executor = new InboundMessageTransformerExecutor(mode, 3)) {
+                List<CompletableFuture<AerospikeRecordOperation>> futures = new ArrayList<>();
+                for (int i = 0; i < 30; i++) {
+                    futures.add(executor.submit(blockingTransformer, i));
+                }
+                futures.forEach(CompletableFuture::join);
+            }
+            assertTrue(maxInFlight.get() <= 3, mode + " ran " + maxInFlight.get());
+            assertTrue(maxInFlight.get() > 1, mode + " ran serially");
+        }
+    }
+
+    @Test
+    void testVirtualFallsBackOnOldRuntimes() {
+        try (InboundMessageTransformerExecutor executor =
+                     new InboundMessageTransformerExecutor(TransformerExecutionMode.VIRTUAL, 0)) {
+            assertEquals(Runtime.version().feature() >= 21, executor.isVirtual());
+        }
+    }
+
+    @Test
+    void testDefaultsToPlatformThreads() {
+        InboundMessageTransformerConfig config = new InboundMessageTransformerConfig(null, null, false);
+        assertEquals(TransformerExecutionMode.PLATFORM, config.getExecutionMode());
+        try (InboundMessageTransformerExecutor executor = InboundMessageTransformerExecutor.forConfig(config)) {
+            assertFalse(executor.isVirtual());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound;
+
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.operation.AerospikeDeleteOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link KeyOrderedBatchTransformer}.
+ */
+class KeyOrderedBatchTransformerTest {
+    @Test
+    void testKeepsInputAndPerKeyOrder() {
+        Map<Integer, List<Integer>> seen = new ConcurrentHashMap<>();
+        Map<String, Boolean> threads = new ConcurrentHashMap<>();
+        InboundMessageTransformer<Integer> transformer = input -> {
+            threads.put(Thread.currentThread().getName(), true);
+            seen.computeIfAbsent(input % 5, k -> Collections.synchronizedList(new ArrayList<>())).add(input);
+            return new AerospikeDeleteOperation(new Key("test", "demo", input), null);
+        };
+
+        List<Integer> inputs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(i);
+        }
+
+        KeyOrderedBatchTransformer<Integer> ordered =
+                new KeyOrderedBatchTransformer<>(transformer, input -> input % 5, 4);
+        List<AerospikeRecordOperation> operations = ordered.transformBatch(inputs);
+
+        assertEquals(inputs.size(), operations.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(new Key("test", "demo", i),
+                    ((AerospikeDeleteOperation) operations.get(i)).getKey());
+        }
+
+        for (List<Integer> values : seen.values()) {
+            for (int i = 1; i < values.size(); i++) {
+                assertTrue(values.get(i - 1) < values.get(i));
+            }
+        }
+        assertTrue(threads.size() > 1);
+    }
+
+    @Test
+    void testRunsLanesOnGivenExecutor() {
+        AtomicInteger lanes = new AtomicInteger();
+        Executor executor = runnable -> {
+            lanes.incrementAndGet();
+            runnable.run();
+        };
+        KeyOrderedBatchTransformer<Integer> ordered = new KeyOrderedBatchTransformer<>(
+                input -> new AerospikeDeleteOperation(new Key("test", "demo", input), null),
+                input -> input, 3, executor);
+
+        assertEquals(4, ordered.transformBatch(Arrays.asList(0, 1, 2, 3)).size());
+        assertEquals(2, lanes.get());
+    }
+
+    @Test
+    void testPropagatesFailure() {
+        IllegalArgumentException failure = new IllegalArgumentException("bad message");
+        InboundMessageTransformer<Integer> transformer = input -> {
+            if (input == 7) {
+                throw failure;
+            }
+            return new AerospikeDeleteOperation(new Key("test", "demo", input), null);
+        };
+
+        List<Integer> inputs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            inputs.add(i);
+        }
+
+        KeyOrderedBatchTransformer<Integer> ordered =
+                new KeyOrderedBatchTransformer<>(transformer, input -> input, 3);
+        assertSame(failure, assertThrows(IllegalArgumentException.class,
+                () -> ordered.transformBatch(inputs)));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.jfr;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.memory.InMemoryAerospikeReader;
+import com.aerospike.connect.inbound.memory.InMemoryRecordStore;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link JfrInboundMessageTransformer} and
+ * {@link JfrAerospikeReader}.
+ */
+class JfrInboundMessageTransformerTest {
+    @TempDir
+    Path directory;
+
+    private final InMemoryRecordStore store = new InMemoryRecordStore();
+
+    private final AerospikeReader reader =
+            new JfrAerospikeReader(new InMemoryAerospikeReader(store));
+
+    private final InboundMessageTransformer<String> transformer =
+            new JfrInboundMessageTransformer<>(this::transform);
+
+    @Test
+    void testRecordsEvents() throws IOException {
+        store.put(null, new Key("test", "users", "alice"), new Bin("visits", 1));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(InboundTransformEvent.NAME)
+                    .withThreshold(Duration.ZERO);
+            recording.enable(AerospikeReadEvent.NAME)
+                    .withThreshold(Duration.ZERO);
+            recording.start();
+
+            transformer.transform("alice");
+            assertThrows(IllegalArgumentException.class,
+                    () -> transformer.transform(""));
+            reader.get(null, new Key[]{new Key("test", "users", "alice"),
+                    new Key("test", "users", "bob")});
+
+            recording.stop();
+            Path file = directory.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> transforms = events(events,
+                InboundTransformEvent.NAME);
+        assertEquals(2, transforms.size());
+        assertEquals("test", transforms.get(0).getString("namespace"));
+        assertEquals("users", transforms.get(0).getString("setName"));
+        assertEquals(AerospikePutOperation.class.getName(),
+                transforms.get(0).getString("operationType"));
+        assertEquals(IllegalArgumentException.class.getName(),
+                transforms.get(1).getString("error"));
+
+        List<RecordedEvent> reads = events(events, AerospikeReadEvent.NAME);
+        assertEquals(2, reads.size());
+        assertEquals("GET", reads.get(0).getString("call"));
+        assertEquals(1, reads.get(0).getInt("keyCount"));
+        assertEquals("BATCH_GET", reads.get(1).getString("call"));
+        assertEquals(2, reads.get(1).getInt("keyCount"));
+        assertTrue(reads.get(1).getDuration().toNanos() >= 0);
+    }
+
+    @Test
+    void testSkipsFastCallsBelowThreshold() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(InboundTransformEvent.NAME)
+                    .withThreshold(Duration.ofHours(1));
+            recording.start();
+            transformer.transform("alice");
+            recording.stop();
+            Path file = directory.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertTrue(events(events, InboundTransformEvent.NAME).isEmpty());
+    }
+
+    private AerospikeRecordOperation transform(String user) {
+        if (user.isEmpty()) {
+            throw new IllegalArgumentException("Empty user");
+        }
+
+        Key key = new Key("test", "users", user);
+        Record record = reader.get(null, key);
+        long visits = record == null ? 0 : record.getLong("visits");
+        return new AerospikePutOperation(key, null,
+                Collections.singletonList(new Bin("visits", visits + 1)));
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events,
+                                              String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+    }
+}
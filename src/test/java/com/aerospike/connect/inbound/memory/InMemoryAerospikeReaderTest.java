@@ -0,0 +1,125 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link InMemoryAerospikeReader}.
+ */
+class InMemoryAerospikeReaderTest {
+    private final Key key = new Key("test", "users", "alice");
+    private final Key missingKey = new Key("test", "users", "bob");
+    private final InMemoryRecordStore store = new InMemoryRecordStore();
+    private final InMemoryAerospikeReader reader =
+            new InMemoryAerospikeReader(store);
+
+    @Test
+    void testReadsRecords() {
+        store.put(null, key, new Bin("name", "Alice"), new Bin("age", 42),
+                new Bin("cdrs", Arrays.asList("cdr_1", "cdr_2")));
+
+        assertEquals("Alice", reader.get(null, key).bins.get("name"));
+        assertEquals(Collections.singletonMap("age", 42L),
+                reader.get(null, key, "age").bins);
+        assertNull(reader.get(null, missingKey));
+        assertEquals(1, reader.getHeader(null, key).generation);
+        assertTrue(reader.exists(null, key));
+        assertFalse(reader.exists(null, missingKey));
+
+        Record[] records = reader.get(null, new Key[]{key, missingKey}, "name");
+        assertEquals("Alice", records[0].bins.get("name"));
+        assertNull(records[1]);
+
+        assertEquals(2L, reader.operate(null, key,
+                ListOperation.size("cdrs")).bins.get("cdrs"));
+        assertThrows(AerospikeException.class, () -> reader.operate(null, key,
+                Operation.put(new Bin("name", "Bob"))));
+    }
+
+    @Test
+    void testBatchReads() {
+        store.put(null, key, new Bin("name", "Alice"));
+
+        BatchRead found = new BatchRead(key, new String[]{"name"});
+        BatchRead missing = new BatchRead(missingKey, true);
+        reader.get(null, Arrays.asList(found, missing));
+
+        assertEquals(ResultCode.OK, found.resultCode);
+        assertEquals("Alice", found.record.bins.get("name"));
+        assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, missing.resultCode);
+        assertNull(missing.record);
+    }
+
+    @Test
+    void testExpiration() {
+        WritePolicy expiring = new WritePolicy();
+        expiring.expiration = 3600;
+        WritePolicy keepExpiration = new WritePolicy();
+        keepExpiration.expiration = -2;
+
+        store.put(expiring, key, new Bin("name", "Alice"));
+        int expiration = reader.getHeader(null, key).expiration;
+        assertTrue(expiration > 0);
+
+        store.put(keepExpiration, key, new Bin("age", 42));
+        Record header = reader.getHeader(null, key);
+        assertEquals(2, header.generation);
+        assertEquals(expiration, header.expiration);
+
+        store.put(null, key, new Bin("age", 43));
+        assertEquals(0, reader.getHeader(null, key).expiration);
+    }
+
+    @Test
+    void testReadsReturnCopies() {
+        store.put(null, key, new Bin("cdrs", Arrays.asList("cdr_1", "cdr_2")),
+                new Bin("blob", new byte[]{1, 2}));
+
+        reader.get(null, key).getList("cdrs").remove(0);
+        reader.get(null, key, "cdrs").getList("cdrs").clear();
+        ((byte[]) reader.get(null, key).bins.get("blob"))[0] = 9;
+        ((List<?>) reader.operate(null, key, Operation.get("cdrs"))
+                .bins.get("cdrs")).clear();
+
+        Record record = reader.get(null, key);
+        assertEquals(Arrays.asList("cdr_1", "cdr_2"), record.getList("cdrs"));
+        assertArrayEquals(new byte[]{1, 2}, (byte[]) record.bins.get("blob"));
+        assertEquals(1, record.generation);
+    }
+}
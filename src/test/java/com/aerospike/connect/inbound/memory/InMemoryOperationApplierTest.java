@@ -0,0 +1,245 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.CTX;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.cdt.ListReturnType;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapOrder;
+import com.aerospike.client.cdt.MapPolicy;
+import com.aerospike.client.cdt.MapReturnType;
+import com.aerospike.client.policy.BatchWritePolicy;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.connect.inbound.operation.AerospikeBatchRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeCompositeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeConditionalOperation;
+import com.aerospike.connect.inbound.operation.AerospikeDeleteOperation;
+import com.aerospike.connect.inbound.operation.AerospikeOperateOperation;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link InMemoryOperationApplier}.
+ */
+class InMemoryOperationApplierTest {
+    private final Key key = new Key("test", "rockets", "dealership-1");
+    private final Key otherKey = new Key("test", "rockets", "dealership-2");
+    private final InMemoryRecordStore store = new InMemoryRecordStore();
+    private final InMemoryOperationApplier applier =
+            new InMemoryOperationApplier(store);
+
+    @Test
+    void testPutAndDelete() {
+        applier.apply(new AerospikePutOperation(key, null,
+                Arrays.asList(new Bin("name", "Falcon"), new Bin("thrust", 7607))));
+        applier.apply(new AerospikePutOperation(key, null,
+                Collections.singletonList(new Bin("price", 62.5))));
+
+        Record record = store.get(key);
+        assertEquals("Falcon", record.bins.get("name"));
+        assertEquals(7607L, record.bins.get("thrust"));
+        assertEquals(62.5, record.bins.get("price"));
+        assertEquals(2, record.generation);
+
+        applier.apply(new AerospikeSkipRecordOperation());
+        applier.apply(new AerospikeDeleteOperation(key, null));
+        assertNull(store.get(key));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testWritePolicy() {
+        WritePolicy createOnly = new WritePolicy();
+        createOnly.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        applier.apply(new AerospikePutOperation(key, createOnly,
+                Collections.singletonList(new Bin("name", "Falcon"))));
+
+        AerospikeException exists = assertThrows(AerospikeException.class,
+                () -> applier.apply(new AerospikePutOperation(key, createOnly,
+                        Collections.singletonList(new Bin("name", "Starship")))));
+        assertEquals(ResultCode.KEY_EXISTS_ERROR, exists.getResultCode());
+
+        applier.apply(new AerospikePutOperation(key, createOnly,
+                Collections.singletonList(new Bin("name", "Starship")),
+                Collections.singleton(ResultCode.KEY_EXISTS_ERROR)));
+        assertEquals("Falcon", store.get(key).bins.get("name"));
+
+        WritePolicy expectGeneration = new WritePolicy();
+        expectGeneration.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+        expectGeneration.generation = 2;
+        AerospikeException generation = assertThrows(AerospikeException.class,
+                () -> applier.apply(new AerospikeDeleteOperation(key,
+                        expectGeneration)));
+        assertEquals(ResultCode.GENERATION_ERROR, generation.getResultCode());
+
+        WritePolicy replace = new WritePolicy();
+        replace.recordExistsAction = RecordExistsAction.REPLACE;
+        applier.apply(new AerospikePutOperation(key, replace,
+                Collections.singletonList(new Bin("model", "Raptor"))));
+        assertEquals(Collections.singletonMap("model", "Raptor"),
+                store.get(key).bins);
+    }
+
+    @Test
+    void testOperateWithListAndMapOperations() {
+        Map<String, Object> rocket = new HashMap<>();
+        rocket.put("model", "Falcon");
+        rocket.put("profit", 4.5);
+        store.put(null, key, new Bin("inventory",
+                Arrays.asList(rocket, Collections.singletonMap("model", "Electron"))));
+
+        Record record = store.operate(null, key,
+                ListOperation.removeByValue("inventory", Value.get(rocket),
+                        ListReturnType.COUNT),
+                ListOperation.append("sales-record", Value.get(rocket),
+                        CTX.mapKeyCreate(Value.get("list-of-sold"),
+                                MapOrder.UNORDERED)),
+                MapOperation.increment(new MapPolicy(), "sales-record",
+                        Value.get("num-rockets-sold"), Value.get(1)),
+                MapOperation.increment(new MapPolicy(), "sales-record",
+                        Value.get("gross-profit"), Value.get(4.5)),
+                MapOperation.increment(new MapPolicy(), "sales-record",
+                        Value.get("gross-profit"), Value.get(0.5)),
+                ListOperation.size("inventory"),
+                Operation.add(new Bin("sales", 1)),
+                Operation.append(new Bin("log", "sold")));
+
+        assertEquals(Arrays.asList(1L, 1L), record.bins.get("inventory"));
+        assertEquals(Arrays.asList(1L, 1L, 4.5, 5.0),
+                record.bins.get("sales-record"));
+
+        Record stored = store.get(key);
+        assertEquals(Collections.singletonList(
+                Collections.singletonMap("model", "Electron")),
+                stored.bins.get("inventory"));
+        Map<?, ?> salesRecord = (Map<?, ?>) stored.bins.get("sales-record");
+        assertEquals(Collections.singletonList(rocket),
+                salesRecord.get("list-of-sold"));
+        assertEquals(1L, salesRecord.get("num-rockets-sold"));
+        assertEquals(5.0, salesRecord.get("gross-profit"));
+        assertEquals(1L, stored.bins.get("sales"));
+        assertEquals("sold", stored.bins.get("log"));
+
+        Record read = store.read(key,
+                MapOperation.getByKey("sales-record",
+                        Value.get("num-rockets-sold"), MapReturnType.VALUE),
+                ListOperation.getByIndex("inventory", -1,
+                        ListReturnType.VALUE));
+        assertEquals(1L, read.bins.get("sales-record"));
+        assertEquals(Collections.singletonMap("model", "Electron"),
+                read.bins.get("inventory"));
+    }
+
+    @Test
+    void testOperateIsAtomic() {
+        store.put(null, key, new Bin("list", Arrays.asList(1, 2)));
+
+        AerospikeException error = assertThrows(AerospikeException.class,
+                () -> store.operate(null, key,
+                        ListOperation.append("list", Value.get(3)),
+                        ListOperation.pop("list", 5)));
+        assertEquals(ResultCode.OP_NOT_APPLICABLE, error.getResultCode());
+
+        Record record = store.get(key);
+        assertEquals(Arrays.asList(1L, 2L), record.bins.get("list"));
+        assertEquals(1, record.generation);
+    }
+
+    @Test
+    void testConditionalOperation() {
+        AerospikeConditionalOperation operation =
+                new AerospikeConditionalOperation(key, null,
+                        Collections.singletonList(Operation.add(new Bin("count", 1))),
+                        Collections.singletonList(Operation.put(new Bin("count", 10))));
+
+        applier.apply(operation);
+        assertEquals(10L, store.get(key).bins.get("count"));
+        applier.apply(operation);
+        assertEquals(11L, store.get(key).bins.get("count"));
+    }
+
+    @Test
+    void testCompositeAndBatchOperations() {
+        applier.apply(new AerospikeCompositeRecordOperation(Arrays.asList(
+                new AerospikePutOperation(key, null,
+                        Collections.singletonList(new Bin("a", 1))),
+                new AerospikeOperateOperation(otherKey, null,
+                        Collections.singletonList(Operation.put(new Bin("b", 2)))))));
+        assertEquals(2, store.size());
+
+        Key missingKey = new Key("test", "rockets", "missing");
+        BatchRecord missing = new BatchWrite(missingKey,
+                new Operation[]{Operation.put(new Bin("c", 3))});
+        BatchRecord delete = new BatchDelete(otherKey);
+        BatchWritePolicy batchUpdateOnly = new BatchWritePolicy();
+        batchUpdateOnly.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+        BatchRecord update = new BatchWrite(batchUpdateOnly, missingKey,
+                new Operation[]{Operation.put(new Bin("d", 4))});
+
+        AerospikeException error = assertThrows(AerospikeException.class,
+                () -> applier.apply(new AerospikeBatchRecordOperation(null,
+                        Arrays.asList(delete, update))));
+        assertEquals(ResultCode.BATCH_FAILED, error.getResultCode());
+        assertEquals(ResultCode.OK, delete.resultCode);
+        assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, update.resultCode);
+
+        applier.apply(new AerospikeBatchRecordOperation(null,
+                Arrays.asList(missing, update),
+                Collections.singleton(ResultCode.KEY_NOT_FOUND_ERROR)));
+        assertEquals(ResultCode.OK, missing.resultCode);
+        assertEquals(ResultCode.OK, update.resultCode);
+        assertEquals(2, store.size());
+        assertTrue(store.get(missingKey).bins.containsKey("d"));
+    }
+
+    @Test
+    void testInjectsLatency() {
+        InMemoryOperationApplier slowApplier = new InMemoryOperationApplier(
+                store, Duration.ofMillis(20));
+
+        long start = System.nanoTime();
+        slowApplier.apply(new AerospikePutOperation(key, null,
+                Collections.singletonList(new Bin("a", 1))));
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(20).toNanos());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+    @Test
+    void testQuantilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(50_000, snapshot.getValueAtQuantile(0.5), 50_000 / 32.0);
+        assertEquals(99_000, snapshot.getValueAtQuantile(0.99), 99_000 / 32.0);
+        assertEquals(100_000, snapshot.getValueAtQuantile(1));
+        assertEquals(0, new LatencyHistogram().snapshot().getValueAtQuantile(0.5));
+    }
+
+    @Test
+    void testBucketBounds() {
+        for (long value : new long[]{0, 31, 32, 33, 1000, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index < LatencyHistogram.BUCKETS);
+            assertTrue(LatencyHistogram.upperBound(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.upperBound(index - 1) < value);
+        }
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            long latency = (i + 1) * 1000L;
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.record(latency);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(8000, snapshot.getMax());
+        assertEquals(1000, snapshot.getValueAtQuantile(0.1), 1000 / 32.0);
+    }
+}
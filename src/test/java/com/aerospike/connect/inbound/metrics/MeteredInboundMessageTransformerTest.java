@@ -0,0 +1,157 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.metrics;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.memory.InMemoryAerospikeReader;
+import com.aerospike.connect.inbound.memory.InMemoryRecordStore;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeteredInboundMessageTransformer} and
+ * {@link MeteredAerospikeReader} recording in
+ * {@link StripedTransformerMetrics}.
+ */
+class MeteredInboundMessageTransformerTest {
+    private final StripedTransformerMetrics metrics =
+            new StripedTransformerMetrics();
+
+    private final InMemoryRecordStore store = new InMemoryRecordStore();
+
+    private final AerospikeReader reader = MeteredAerospikeReader.of(
+            new InMemoryAerospikeReader(store), metrics);
+
+    private final InboundMessageTransformer<String> transformer =
+            MeteredInboundMessageTransformer.of(this::transform, metrics, 1);
+
+    @Test
+    void testRecordsTransformsAndReads() {
+        store.put(null, new Key("test", "users", "alice"), new Bin("visits", 1));
+
+        transformer.transform("alice");
+        transformer.transform("bob");
+        transformer.transform("");
+        assertThrows(IllegalArgumentException.class,
+                () -> transformer.transform("!"));
+
+        assertEquals(4, metrics.getMessageCount());
+        assertEquals(1, metrics.getSkipCount());
+        assertEquals(0.25, metrics.getSkipRate());
+        assertEquals(1, metrics.getTransformFailureCount());
+        assertEquals(2, metrics.getOperationCounts()
+                .get(AerospikePutOperation.class).longValue());
+        assertEquals(1, metrics.getOperationCounts()
+                .get(AerospikeSkipRecordOperation.class).longValue());
+        assertEquals(1, metrics.getExceptionCounts()
+                .get(IllegalArgumentException.class).longValue());
+        assertEquals(4, metrics.getTransformLatencies().getCount());
+        assertEquals(2, metrics.getReadLatencies(ReaderCall.GET).getCount());
+        assertEquals(0, metrics.getReadLatencies(ReaderCall.BATCH_GET).getCount());
+    }
+
+    @Test
+    void testRecordsReadFailures() {
+        Key key = new Key("test", "users", "alice");
+        assertThrows(AerospikeException.class, () -> reader.operate(null, key,
+                Operation.put(new Bin("visits", 1))));
+
+        assertEquals(1, metrics.getReadFailureCount(ReaderCall.OPERATE));
+        assertEquals(1, metrics.getReadLatencies(ReaderCall.OPERATE).getCount());
+        assertEquals(1, metrics.getExceptionCounts()
+                .get(AerospikeException.class).longValue());
+    }
+
+    @Test
+    void testRecordsReadErrors() {
+        AerospikeReader failingReader = new InMemoryAerospikeReader(store) {
+            @Override
+            public boolean exists(Policy policy, Key key) {
+                throw new LinkageError("read failed");
+            }
+        };
+        AerospikeReader failing =
+                MeteredAerospikeReader.of(failingReader, metrics);
+
+        Key key = new Key("test", "users", "alice");
+        assertThrows(LinkageError.class, () -> failing.exists(null, key));
+        assertEquals(1, metrics.getReadFailureCount(ReaderCall.EXISTS));
+        assertEquals(1, metrics.getExceptionCounts()
+                .get(LinkageError.class).longValue());
+    }
+
+    @Test
+    void testTimesSampleOfTransforms() {
+        StripedTransformerMetrics sampled = new StripedTransformerMetrics();
+        InboundMessageTransformer<String> metered =
+                MeteredInboundMessageTransformer.of(this::transform, sampled,
+                        16);
+
+        for (int i = 0; i < 1600; i++) {
+            metered.transform("");
+        }
+
+        assertEquals(1600, sampled.getMessageCount());
+        assertEquals(1600, sampled.getSkipCount());
+        long timed = sampled.getTransformLatencies().getCount();
+        assertTrue(timed > 0 && timed < 400, "Timed " + timed);
+        assertThrows(IllegalArgumentException.class,
+                () -> MeteredInboundMessageTransformer.of(this::transform,
+                        sampled, 3));
+    }
+
+    @Test
+    void testNoopMetricsDoNotWrap() {
+        InboundMessageTransformer<String> unwrapped = this::transform;
+        assertSame(unwrapped, MeteredInboundMessageTransformer.of(unwrapped,
+                NoopTransformerMetrics.INSTANCE));
+        assertSame(reader, MeteredAerospikeReader.of(reader,
+                NoopTransformerMetrics.INSTANCE));
+    }
+
+    private AerospikeRecordOperation transform(String user) {
+        if (user.isEmpty()) {
+            return new AerospikeSkipRecordOperation();
+        }
+        if (user.equals("!")) {
+            throw new IllegalArgumentException("Invalid user");
+        }
+
+        Key key = new Key("test", "users", user);
+        Record record = reader.get(null, key);
+        long visits = record == null ? 0 : record.getLong("visits");
+        return new AerospikePutOperation(key, null,
+                Collections.singletonList(new Bin("visits", visits + 1)));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link FieldSchema} and {@link SchemaFieldMap}.
+ */
+class FieldSchemaTest {
+    private final FieldSchema schema = FieldSchema.of("name", "age", "city");
+    private final FieldSlot name = schema.slot("name");
+    private final FieldSlot city = schema.slot("city");
+
+    @Test
+    void testResolvesSlots() {
+        assertEquals(0, name.getIndex());
+        assertEquals(2, city.getIndex());
+        assertEquals(-1, schema.indexOf("missing"));
+        assertThrows(IllegalArgumentException.class, () -> schema.slot("missing"));
+        assertThrows(IllegalArgumentException.class, () -> FieldSchema.of("a", "a"));
+    }
+
+    @Test
+    void testReadsSlotsByIndexOrByName() {
+        SchemaFieldMap fields = new SchemaFieldMap(schema, new Object[]{"Alice", 30L, null});
+        InboundMessage<Object, String> message =
+                new InboundMessage<>(null, "message", null, null, fields, Collections.emptySet());
+        assertEquals("Alice", message.get(name));
+        assertNull(message.get(city));
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "Alice");
+        expected.put("age", 30L);
+        assertEquals(expected, fields);
+        assertFalse(fields.containsKey("city"));
+
+        InboundMessage<Object, String> plain =
+                new InboundMessage<>(null, "message", null, null, expected, Collections.emptySet());
+        assertEquals("Alice", plain.get(name));
+
+        FieldSlot otherSchemaSlot = FieldSchema.of("age").slot("age");
+        assertEquals(30L, message.get(otherSchemaSlot));
+    }
+
+    @Test
+    void testReadsPrimitiveFieldsUnboxed() {
+        FieldSlot age = schema.slot("age");
+        SchemaFieldMap fields = SchemaFieldMap.builder(schema)
+                .set(name, "Alice")
+                .setLong(age, 30)
+                .setBoolean(city, true)
+                .build();
+        InboundMessage<Object, String> message =
+                new InboundMessage<>(null, "message", null, null, fields, Collections.emptySet());
+
+        assertEquals(30L, message.getLong(age));
+        assertEquals(30L, message.getLong("age"));
+        assertEquals(30.0, message.getDouble(age));
+        assertTrue(message.getBoolean(city));
+        assertEquals(30L, fields.get("age"));
+        assertEquals(Boolean.TRUE, fields.get("city"));
+        assertEquals(3, fields.size());
+        assertThrows(ClassCastException.class, () -> message.getLong(name));
+
+        Map<String, Object> boxed = new HashMap<>(fields);
+        boxed.put("bytes", new byte[]{1});
+        InboundMessage<Object, String> plain =
+                new InboundMessage<>(null, "message", null, null, boxed, Collections.emptySet());
+        assertEquals(30L, plain.getLong(age));
+        assertEquals(1, plain.getBytes("bytes")[0]);
+        assertNull(plain.getBytes("missing"));
+        assertThrows(NoSuchElementException.class, () -> plain.getDouble("missing"));
+    }
+}
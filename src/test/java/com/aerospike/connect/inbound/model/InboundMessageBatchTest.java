@@ -0,0 +1,96 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import com.aerospike.client.Key;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link InboundMessageBatch}.
+ */
+class InboundMessageBatchTest {
+    private final FieldSchema schema = FieldSchema.builder()
+            .field("name", FieldType.OBJECT)
+            .field("price", FieldType.DOUBLE)
+            .field("quantity", FieldType.LONG)
+            .build();
+    private final FieldSlot name = schema.slot("name");
+    private final FieldSlot price = schema.slot("price");
+    private final FieldSlot quantity = schema.slot("quantity");
+
+    @Test
+    void testBuildsColumnsRowByRow() {
+        InboundMessageBatch.Builder<String, String> builder = InboundMessageBatch.builder(schema, 1);
+        for (int i = 0; i < 3; i++) {
+            int row = builder.addRow("m" + i, "message", new Key("test", "demo", i), null,
+                    Collections.emptySet());
+            builder.set(row, name, "item" + i).setDouble(row, price, i * 1.5);
+            if (i != 1) {
+                builder.setLong(row, quantity, i);
+            }
+        }
+        InboundMessageBatch<String, String> batch = builder.build();
+
+        assertEquals(3, batch.size());
+        double total = 0;
+        double[] prices = batch.getDoubleColumn(price);
+        for (int i = 0; i < batch.size(); i++) {
+            total += prices[i];
+        }
+        assertEquals(4.5, total);
+        assertFalse(batch.isPresent(quantity, 1));
+        assertTrue(batch.isPresent(quantity, 2));
+        assertEquals("m2", batch.getMessageKey(2));
+        assertEquals(new Key("test", "demo", 1), batch.getKeyColumn()[1]);
+        assertThrows(IllegalArgumentException.class, () -> batch.getLongColumn(price));
+
+        InboundMessage<String, String> row = batch.getRow(1);
+        assertEquals("item1", row.get(name));
+        assertEquals(1.5, row.getDouble(price));
+        assertNull(row.get(quantity));
+    }
+
+    @Test
+    void testConvertsMessages() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("name", "rocket");
+        fields.put("quantity", 7);
+        fields.put("extra", true);
+        InboundMessage<Object, String> message =
+                new InboundMessage<>(null, "message", null, null, fields, Collections.emptySet());
+
+        InboundMessageBatch<Object, String> batch = InboundMessageBatch.of(schema, Arrays.asList(message, message));
+
+        assertArrayEquals(new Object[]{"rocket", "rocket"},
+                Arrays.copyOf(batch.getObjectColumn(name), batch.size()));
+        assertEquals(7L, batch.getLongColumn(quantity)[1]);
+        assertFalse(batch.isPresent(price, 0));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LazyFieldMap}.
+ */
+class LazyFieldMapTest {
+    private final List<String> decodes = new CopyOnWriteArrayList<>();
+
+    private final LazyFieldMap fields = new LazyFieldMap(
+            new LinkedHashSet<>(Arrays.asList("name", "age", "nickname")), name -> {
+        decodes.add(name);
+        return "nickname".equals(name) ? null : name.toUpperCase();
+    });
+
+    @Test
+    void testDecodesFieldOnceOnFirstAccess() {
+        assertTrue(fields.containsKey("age"));
+        assertEquals(3, fields.size());
+        assertTrue(decodes.isEmpty());
+
+        assertEquals("NAME", fields.get("name"));
+        assertEquals("NAME", fields.get("name"));
+        assertNull(fields.get("nickname"));
+        assertNull(fields.get("nickname"));
+        assertNull(fields.get("missing"));
+
+        assertEquals(Arrays.asList("name", "nickname"), decodes);
+        assertTrue(fields.isDecoded("name"));
+        assertFalse(fields.isDecoded("age"));
+    }
+
+    @Test
+    void testEqualsMaterializedMap() {
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "NAME");
+        expected.put("age", "AGE");
+        expected.put("nickname", null);
+
+        assertEquals(expected, fields);
+        InboundMessage<Object, String> message = new InboundMessage<>(null, "message", null, null,
+                fields.keySet(), name -> "nickname".equals(name) ? null : name.toUpperCase(),
+                Collections.emptySet());
+        assertEquals(expected, message.getFields());
+    }
+}
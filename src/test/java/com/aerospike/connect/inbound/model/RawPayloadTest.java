@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.model;
+
+import com.aerospike.client.Value;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link RawPayload}.
+ */
+class RawPayloadTest {
+    /**
+     * Cursor over a payload of <code>name=value;</code> pairs.
+     */
+    private static class PairCursor implements FieldCursor {
+        private final ByteBuffer buffer;
+        private final StringBuilder name = new StringBuilder();
+        private ByteBuffer value;
+
+        PairCursor(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean next() {
+            if (!buffer.hasRemaining()) {
+                return false;
+            }
+            name.setLength(0);
+            byte b;
+            while ((b = buffer.get()) != '=') {
+                name.append((char) b);
+            }
+            int start = buffer.position();
+            while (buffer.get() != ';') {
+                // Skip the value.
+            }
+            ByteBuffer view = buffer.duplicate();
+            view.position(start).limit(buffer.position() - 1);
+            value = view.slice();
+            return true;
+        }
+
+        @Override
+        public CharSequence getFieldName() {
+            return name;
+        }
+
+        @Override
+        public ByteBuffer getValue() {
+            return value;
+        }
+    }
+
+    private final byte[] bytes = "xxname=Alice;city=Paris;yy".getBytes(StandardCharsets.US_ASCII);
+    private final RawPayload payload = new RawPayload(bytes, 2, bytes.length - 4, PairCursor::new);
+
+    @Test
+    void testExposesReadOnlyView() {
+        ByteBuffer buffer = payload.asByteBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(22, payload.length());
+        assertEquals('n', buffer.get(0));
+    }
+
+    @Test
+    void testStreamsFields() {
+        List<String> fields = new ArrayList<>();
+        FieldCursor cursor = payload.cursor();
+        while (cursor.next()) {
+            fields.add(cursor.getFieldName() + ":" +
+                    StandardCharsets.US_ASCII.decode(cursor.getValue()));
+        }
+        assertEquals(List.of("name:Alice", "city:Paris"), fields);
+    }
+
+    @Test
+    void testBlobValueSharesPayloadBytes() {
+        Value.ByteSegmentValue value = (Value.ByteSegmentValue) payload.asBlobValue();
+        assertSame(bytes, value.getBytes());
+        assertEquals(2, value.getOffset());
+        assertEquals(22, value.getLength());
+
+        RawPayload direct = new RawPayload(ByteBuffer.allocateDirect(4), null);
+        assertFalse(direct.hasCursor());
+        assertThrows(UnsupportedOperationException.class, direct::cursor);
+        assertEquals(4, ((byte[]) direct.asBlobValue().getObject()).length);
+
+        InboundMessage<Object, String> message = new InboundMessage<>(null, "message", null, null,
+                Collections.emptyMap(), Collections.emptySet(), payload);
+        assertEquals(payload, message.getRawPayload().orElse(null));
+    }
+}
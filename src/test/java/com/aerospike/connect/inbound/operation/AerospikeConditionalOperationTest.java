@@ -0,0 +1,59 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.operation;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AerospikeConditionalOperation}.
+ */
+class AerospikeConditionalOperationTest {
+    @Test
+    void testErrorOnDefaultConstructor() {
+        Exception e = assertThrows(IllegalStateException.class, AerospikeConditionalOperation::new);
+        assertEquals("Cannot create AerospikeConditionalOperation", e.getMessage());
+    }
+
+    @Test
+    void testSuccessOnParameterisedConstructor() {
+        assertDoesNotThrow(() -> new AerospikeConditionalOperation(new Key("test", "demo", 1), null,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptySet()));
+    }
+
+    @Test
+    void testBranchWritePoliciesKeepBasePolicy() {
+        WritePolicy writePolicy = new WritePolicy();
+        writePolicy.expiration = 60;
+        AerospikeConditionalOperation operation = new AerospikeConditionalOperation(
+                new Key("test", "demo", 1), writePolicy, Collections.emptyList(), Collections.emptyList());
+
+        assertEquals(RecordExistsAction.UPDATE_ONLY, operation.getPresentWritePolicy().recordExistsAction);
+        assertEquals(RecordExistsAction.CREATE_ONLY, operation.getAbsentWritePolicy().recordExistsAction);
+        assertEquals(60, operation.getAbsentWritePolicy().expiration);
+        assertEquals(RecordExistsAction.UPDATE, writePolicy.recordExistsAction);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.operation;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for {@link AerospikeOperationCoalescer}.
+ */
+class AerospikeOperationCoalescerTest {
+    private final Key key1 = new Key("test", "demo", 1);
+    private final Key key2 = new Key("test", "demo", 2);
+
+    @Test
+    void testMergesOperationsPerKey() {
+        List<AerospikeRecordOperation> result = AerospikeOperationCoalescer.coalesce(Arrays.asList(
+                new AerospikePutOperation(key1, null, Arrays.asList(new Bin("a", 1), new Bin("b", "x"))),
+                new AerospikeOperateOperation(key2, null, Collections.singletonList(Operation.add(new Bin("n", 1)))),
+                new AerospikeOperateOperation(key1, null, Collections.singletonList(Operation.add(new Bin("c", 2)))),
+                new AerospikeSkipRecordOperation(),
+                new AerospikePutOperation(key1, null, Collections.singletonList(new Bin("a", 3))),
+                new AerospikeOperateOperation(key1, null, Collections.singletonList(Operation.add(new Bin("c", 5))))));
+
+        assertEquals(2, result.size());
+        AerospikeOperateOperation merged = (AerospikeOperateOperation) result.get(0);
+        assertEquals(key1, merged.getKey());
+        List<Operation> ops = merged.getOperations();
+        assertEquals(3, ops.size());
+        assertEquals("b", ops.get(0).binName);
+        assertEquals(Operation.Type.ADD, ops.get(1).type);
+        assertEquals(7L, ops.get(1).value.toLong());
+        assertEquals("a", ops.get(2).binName);
+        assertEquals(3L, ops.get(2).value.toLong());
+        assertEquals(key2, ((AerospikeOperateOperation) result.get(1)).getKey());
+    }
+
+    @Test
+    void testDoesNotMergeAcrossBarriers() {
+        Operation touch = Operation.touch();
+        AerospikeRecordOperation delete = new AerospikeDeleteOperation(key1, null);
+        List<AerospikeRecordOperation> result = AerospikeOperationCoalescer.coalesce(Arrays.asList(
+                new AerospikeOperateOperation(key1, null, Collections.singletonList(Operation.add(new Bin("c", 1)))),
+                new AerospikeOperateOperation(key1, null, Arrays.asList(touch, Operation.add(new Bin("c", 1)))),
+                delete,
+                new AerospikeOperateOperation(key1, null, Collections.singletonList(Operation.add(new Bin("c", 1))))));
+
+        assertEquals(3, result.size());
+        List<Operation> ops = ((AerospikeOperateOperation) result.get(0)).getOperations();
+        assertEquals(3, ops.size());
+        assertSame(touch, ops.get(1));
+        assertSame(delete, result.get(1));
+    }
+
+    @Test
+    void testDoesNotFoldAcrossExpressions() {
+        // Stands in for ExpOperation.write("b", Exp.intBin("a")).
+        Operation expression = new Operation(Operation.Type.EXP_MODIFY, "b", Value.get(new byte[0]));
+        List<AerospikeRecordOperation> result = AerospikeOperationCoalescer.coalesce(Arrays.asList(
+                new AerospikePutOperation(key1, null, Collections.singletonList(new Bin("a", 1))),
+                new AerospikeOperateOperation(key1, null, Collections.singletonList(expression)),
+                new AerospikePutOperation(key1, null, Collections.singletonList(new Bin("a", 5)))));
+
+        assertEquals(1, result.size());
+        List<Operation> ops = ((AerospikeOperateOperation) result.get(0)).getOperations();
+        assertEquals(3, ops.size());
+        assertEquals(1L, ops.get(0).value.toLong());
+        assertSame(expression, ops.get(1));
+        assertEquals(5L, ops.get(2).value.toLong());
+    }
+
+    @Test
+    void testDoesNotMergeIncompatibleOperations() {
+        WritePolicy replace = new WritePolicy();
+        replace.recordExistsAction = RecordExistsAction.REPLACE;
+        AerospikeRecordOperation first = new AerospikePutOperation(key1, null,
+                Collections.singletonList(new Bin("a", 1)));
+        AerospikeRecordOperation ignoring = new AerospikePutOperation(key1, null,
+                Collections.singletonList(new Bin("a", 2)), Collections.singleton(ResultCode.FILTERED_OUT));
+        AerospikeRecordOperation replacing = new AerospikePutOperation(key1, replace,
+                Collections.singletonList(new Bin("a", 3)));
+
+        AerospikeRecordOperation alsoIgnoring = new AerospikePutOperation(key1, null,
+                Collections.singletonList(new Bin("b", 2)), Collections.singleton(ResultCode.FILTERED_OUT));
+
+        List<AerospikeRecordOperation> result = AerospikeOperationCoalescer.coalesce(
+                Arrays.asList(first, ignoring, alsoIgnoring, replacing));
+
+        assertEquals(Arrays.asList(first, ignoring, alsoIgnoring, replacing), result);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.pool;
+
+import com.aerospike.client.Key;
+import com.aerospike.connect.inbound.model.FieldSchema;
+import com.aerospike.connect.inbound.model.FieldSlot;
+import com.aerospike.connect.inbound.model.FieldType;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the pooled mode of {@link RecyclingInboundMessageTransformer}.
+ */
+class RecyclingInboundMessageTransformerTest {
+    /**
+     * Writes the price of an item in cents, skips messages without quantity.
+     */
+    private static class PriceTransformer implements RecyclingInboundMessageTransformer<Object, Object> {
+        private static final FieldSchema SCHEMA = FieldSchema.builder()
+                .field("price", FieldType.DOUBLE)
+                .field("quantity", FieldType.LONG)
+                .build();
+        private static final FieldSlot PRICE = SCHEMA.slot("price");
+        private static final FieldSlot QUANTITY = SCHEMA.slot("quantity");
+        private static final AerospikeSkipRecordOperation SKIP = new AerospikeSkipRecordOperation();
+
+        @Override
+        public FieldSchema getSchema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public AerospikeRecordOperation transform(RecyclableInboundMessage<Object, Object> input,
+                                                  RecyclablePool<RecyclablePutOperation> operations) {
+            if (!input.isPresent(QUANTITY)) {
+                return SKIP;
+            }
+            return operations.acquire()
+                    .reset(input.getKey(), input.getWritePolicy(), input.getIgnoreErrorCodes())
+                    .putLong("cents", (long) (input.getDouble(PRICE) * 100))
+                    .putLong("quantity", input.getLong(QUANTITY));
+        }
+    }
+
+    private final PriceTransformer transformer = new PriceTransformer();
+    private final RecyclablePool<RecyclablePutOperation> pool = new RecyclablePool<>(RecyclablePutOperation::new, 4);
+    private final RecyclableInboundMessage<Object, Object> message =
+            new RecyclableInboundMessage<>(transformer.getSchema());
+    private final Key key = new Key("test", "demo", 1);
+
+    @Test
+    void testTransformsPooledMessages() {
+        message.reset(null, "message", key, null, Collections.emptySet());
+        message.setDouble(PriceTransformer.PRICE, 2.5);
+        message.setLong(PriceTransformer.QUANTITY, 3);
+
+        RecyclablePutOperation operation = (RecyclablePutOperation) transformer.transform(message, pool);
+        AerospikePutOperation put = operation.toPutOperation();
+        assertEquals(key, put.getKey());
+        assertEquals(2, put.getBins().size());
+        assertEquals(250L, put.getBins().get(0).value.toLong());
+        pool.release(operation);
+        assertEquals(1, pool.size());
+        assertSame(operation, pool.acquire());
+        assertEquals(0, operation.getBinCount());
+
+        message.reset(null, "message", key, null, Collections.emptySet());
+        assertSame(PriceTransformer.SKIP, transformer.transform(message, pool));
+    }
+
+    @Test
+    void testTransformsInboundMessage() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("price", 2.5);
+        fields.put("quantity", 3L);
+        InboundMessage<Object, Object> input =
+                new InboundMessage<>(null, "message", key, null, fields, Collections.emptySet());
+
+        AerospikePutOperation put = assertInstanceOf(AerospikePutOperation.class, transformer.transform(input));
+        assertEquals(key, put.getKey());
+        assertEquals(250L, put.getBins().get(0).value.toLong());
+        assertEquals(3L, put.getBins().get(1).value.toLong());
+
+        fields.remove("quantity");
+        assertSame(PriceTransformer.SKIP, transformer.transform(input));
+    }
+
+    @Test
+    void testSteadyStateDoesNotAllocate() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "allocation counter not available");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported(), "allocation counter not supported");
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        // Warm up so the pool and the operation arrays reach their steady
+        // size and the loop is compiled.
+        runTransforms(20_000);
+
+        int transforms = 10_000;
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        runTransforms(transforms);
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+        // Allow for the bytes the counter itself allocates, which are well
+        // below one byte per transform.
+        assertTrue(allocated / transforms == 0, "Allocated " + allocated + " bytes");
+    }
+
+    private void runTransforms(int count) {
+        for (int i = 0; i < count; i++) {
+            message.reset(null, "message", key, null, Collections.emptySet());
+            message.setDouble(PriceTransformer.PRICE, i);
+            message.setLong(PriceTransformer.QUANTITY, i);
+            AerospikeRecordOperation operation = transformer.transform(message, pool);
+            if (operation instanceof RecyclablePutOperation) {
+                pool.release((RecyclablePutOperation) operation);
+            }
+        }
+    }
+}
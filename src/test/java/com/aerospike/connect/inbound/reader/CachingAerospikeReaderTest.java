@@ -0,0 +1,209 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.Policy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CachingAerospikeReader}.
+ */
+class CachingAerospikeReaderTest {
+    private final Key key1 = new Key("test", "demo", 1);
+    private final Key key2 = new Key("test", "demo", 2);
+    private final Key key3 = new Key("test", "demo", 3);
+
+    private static Record record(int generation) {
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("a", 1L);
+        bins.put("b", "b");
+        return new Record(bins, generation, 0);
+    }
+
+    @Test
+    void testRepeatedReadIsServedFromCache() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1));
+
+        Record first = cache.get(null, key1);
+        assertSame(first, cache.get(null, key1));
+        assertEquals(1, reader.singleReads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testBinSubsetIsServedFromEntireRecord() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1));
+
+        cache.get(null, key1);
+        Record subset = cache.get(null, key1, "b");
+        assertEquals(1, reader.singleReads.get());
+        assertEquals(1, subset.bins.size());
+        assertEquals("b", subset.bins.get("b"));
+    }
+
+    @Test
+    void testMissingRecordIsNotCached() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1));
+
+        assertNull(cache.get(null, key1));
+        assertNull(cache.get(null, key1));
+        assertEquals(2, reader.singleReads.get());
+    }
+
+    @Test
+    void testInvalidateRemovesRecord() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1));
+
+        cache.get(null, key1);
+        reader.records.put(key1, record(2));
+        cache.invalidate(key1);
+        assertEquals(2, cache.get(null, key1).generation);
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void testInvalidationDuringReadIsNotOverwritten() {
+        AtomicReference<CachingAerospikeReader> cache = new AtomicReference<>();
+        StubAerospikeReader reader = new StubAerospikeReader() {
+            @Override
+            public Record get(Policy policy, Key key) {
+                Record record = super.get(policy, key);
+                // A write is applied while the read is in flight.
+                cache.get().invalidate(key);
+                return record;
+            }
+        };
+        reader.records.put(key1, record(1));
+        cache.set(new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1)));
+
+        cache.get().get(null, key1);
+        cache.get().get(null, key1);
+        assertEquals(2, reader.singleReads.get());
+        assertEquals(0, cache.get().getWeight());
+    }
+
+    @Test
+    void testLeastRecentlyUsedKeyIsEvicted() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        reader.records.put(key2, record(1));
+        reader.records.put(key3, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 2, Duration.ofMinutes(1));
+
+        cache.get(null, key1);
+        cache.get(null, key2);
+        cache.get(null, key1);
+        cache.get(null, key3);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getWeight());
+
+        cache.get(null, new Key[]{key1, key3});
+        assertEquals(3, reader.singleReads.get());
+        assertEquals(0, reader.batchReads.get());
+
+        cache.get(null, key2);
+        assertEquals(4, reader.singleReads.get());
+    }
+
+    @Test
+    void testBatchReadsOnlyMissingKeys() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        reader.records.put(key2, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1));
+
+        cache.get(null, key1);
+        Record[] records = cache.get(null, new Key[]{key1, key2, key3});
+        assertEquals(1, reader.batchReads.get());
+        assertEquals(3, records.length);
+        assertNull(records[2]);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void testExpiredRecordIsReadAgain() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ZERO);
+
+        cache.get(null, key1);
+        cache.get(null, key1);
+        assertEquals(2, reader.singleReads.get());
+    }
+
+    @Test
+    void testExistsIsServedFromCache() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ofMinutes(1));
+
+        assertFalse(cache.exists(null, key2));
+        assertEquals(1, reader.singleReads.get());
+        cache.get(null, key1);
+        assertTrue(cache.exists(null, key1));
+        assertEquals(2, reader.singleReads.get());
+
+        Record header = cache.getHeader(null, key1);
+        assertNull(header.bins);
+        assertEquals(1, header.generation);
+    }
+
+    @Test
+    void testExistsIsNotServedFromExpiredRecord() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        reader.records.put(key1, record(1));
+        CachingAerospikeReader cache =
+                new CachingAerospikeReader(reader, 10, Duration.ZERO);
+
+        cache.get(null, key1);
+        reader.records.remove(key1);
+        assertFalse(cache.exists(null, key1));
+        assertEquals(2, reader.singleReads.get());
+        assertEquals(0, cache.getHitCount());
+    }
+}
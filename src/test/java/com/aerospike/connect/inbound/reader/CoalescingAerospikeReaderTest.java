@@ -0,0 +1,144 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link CoalescingAerospikeReader}.
+ */
+class CoalescingAerospikeReaderTest {
+    @Test
+    void testConcurrentReadsShareOneBatch() throws Exception {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Key key = new Key("test", "demo", i);
+            keys.add(key);
+            reader.records.put(key, new Record(Collections.singletonMap("i", (long) i), 1, 0));
+        }
+        // The window is long enough for all readers to join, the batch closes
+        // when full.
+        CoalescingAerospikeReader coalescing = new CoalescingAerospikeReader(
+                reader, null, Duration.ofSeconds(30), keys.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(keys.size());
+        try {
+            List<Future<Record>> results = new ArrayList<>();
+            for (Key key : keys) {
+                results.add(executor.submit(() -> coalescing.get(null, key)));
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                assertEquals((long) i, results.get(i).get().bins.get("i"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, reader.batchReads.get());
+        assertEquals(0, reader.singleReads.get());
+    }
+
+    @Test
+    void testLoneReadIsReadAfterWindow() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        CoalescingAerospikeReader coalescing = new CoalescingAerospikeReader(
+                reader, null, Duration.ofMillis(1), 100);
+
+        assertNull(coalescing.get(null, new Key("test", "demo", 1)));
+        assertNull(coalescing.get(null, new Key("test", "demo", 2)));
+        assertEquals(2, reader.batchReads.get());
+    }
+
+    @Test
+    void testReadWithPolicyIsNotCoalesced() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        Key key = new Key("test", "demo", 1);
+        Record record = new Record(Collections.emptyMap(), 1, 0);
+        reader.records.put(key, record);
+        CoalescingAerospikeReader coalescing = new CoalescingAerospikeReader(
+                reader, null, Duration.ofSeconds(30), 100);
+
+        assertSame(record, coalescing.get(new Policy(), key));
+        assertEquals(1, reader.singleReads.get());
+        assertEquals(0, reader.batchReads.get());
+    }
+
+    @Test
+    void testBatchFailureIsPropagated() {
+        CoalescingAerospikeReader coalescing = new CoalescingAerospikeReader(
+                new StubAerospikeReader() {
+                    @Override
+                    public Record[] get(BatchPolicy policy, Key[] keys) {
+                        throw new AerospikeException(ResultCode.BATCH_FAILED);
+                    }
+                }, null, Duration.ofMillis(1), 100);
+
+        AerospikeException e = assertThrows(AerospikeException.class,
+                () -> coalescing.get(null, new Key("test", "demo", 1)));
+        assertEquals(ResultCode.BATCH_FAILED, e.getResultCode());
+    }
+
+    @Test
+    void testBatchErrorCompletesAllReads() throws Exception {
+        CoalescingAerospikeReader coalescing = new CoalescingAerospikeReader(
+                new StubAerospikeReader() {
+                    @Override
+                    public Record[] get(BatchPolicy policy, Key[] keys) {
+                        throw new LinkageError("read failed");
+                    }
+                }, null, Duration.ofSeconds(30), 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Record>> results = new ArrayList<>();
+            for (int i = 1; i <= 2; i++) {
+                Key key = new Key("test", "demo", i);
+                results.add(executor.submit(() -> coalescing.get(null, key)));
+            }
+            for (Future<Record> result : results) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                        () -> result.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(LinkageError.class, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.Policy;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ExecutorAsyncAerospikeReader}.
+ */
+class ExecutorAsyncAerospikeReaderTest {
+    private final Key key = new Key("test", "demo", 1);
+
+    @Test
+    void testReadsAreCompletedWithTheRecord() {
+        StubAerospikeReader reader = new StubAerospikeReader();
+        Record record = new Record(Collections.singletonMap("bin", 1L), 1, 0);
+        reader.records.put(key, record);
+        ExecutorAsyncAerospikeReader asyncReader =
+                new ExecutorAsyncAerospikeReader(reader, Runnable::run);
+
+        assertSame(record, asyncReader.getAsync(null, key).join());
+        assertSame(record, asyncReader.getAsync(null, new Key[]{key}).join()[0]);
+        assertNull(asyncReader.getAsync(null, new Key("test", "demo", 2)).join());
+    }
+
+    @Test
+    void testFailedReadCompletesExceptionally() {
+        ExecutorAsyncAerospikeReader asyncReader =
+                new ExecutorAsyncAerospikeReader(new StubAerospikeReader() {
+                    @Override
+                    public Record get(Policy policy, Key key) {
+                        throw new AerospikeException(ResultCode.PARAMETER_ERROR);
+                    }
+                }, Runnable::run);
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> asyncReader.getAsync(null, key).join());
+        assertTrue(e.getCause() instanceof AerospikeException);
+        assertEquals(ResultCode.PARAMETER_ERROR,
+                ((AerospikeException) e.getCause()).getResultCode());
+
+        // Dependent stages see the exception itself, not a wrapper.
+        Throwable failure = asyncReader.getAsync(null, key)
+                .handle((record, error) -> error).join();
+        assertTrue(failure instanceof AerospikeException);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.Policy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link SingleFlightAerospikeReader}.
+ */
+class SingleFlightAerospikeReaderTest {
+    private final Key key = new Key("test", "demo", 1);
+
+    @Test
+    void testConcurrentReadsOfSameKeyShareOneRead() throws Exception {
+        int readers = 4;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StubAerospikeReader stub = new StubAerospikeReader() {
+            @Override
+            public Record get(Policy policy, Key key) {
+                started.countDown();
+                try {
+                    assertTrue(release.await(30, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.get(policy, key);
+            }
+        };
+        Record record = new Record(Collections.emptyMap(), 1, 0);
+        stub.records.put(key, record);
+        SingleFlightAerospikeReader reader = new SingleFlightAerospikeReader(stub);
+
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<Record>> results = new ArrayList<>();
+            results.add(executor.submit(() -> reader.get(null, key)));
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+            for (int i = 1; i < readers; i++) {
+                results.add(executor.submit(() -> reader.get(null, key)));
+            }
+            while (reader.getSharedReadCount() < readers - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<Record> result : results) {
+                assertSame(record, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, stub.singleReads.get());
+    }
+
+    @Test
+    void testErrorIsPropagatedToSharedReads() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlightAerospikeReader reader = new SingleFlightAerospikeReader(new StubAerospikeReader() {
+            @Override
+            public Record get(Policy policy, Key key) {
+                started.countDown();
+                try {
+                    assertTrue(release.await(30, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new LinkageError("read failed");
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Record> first = executor.submit(() -> reader.get(null, key));
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+            Future<Record> shared = executor.submit(() -> reader.get(null, key));
+            while (reader.getSharedReadCount() < 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<Record> result : Arrays.asList(first, shared)) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                        () -> result.get(30, TimeUnit.SECONDS));
+                assertInstanceOf(LinkageError.class, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSequentialReadsAreNotShared() {
+        StubAerospikeReader stub = new StubAerospikeReader();
+        SingleFlightAerospikeReader reader = new SingleFlightAerospikeReader(stub);
+
+        reader.get(null, key);
+        reader.get(null, key, "a");
+        reader.get(null, key);
+        assertEquals(3, stub.singleReads.get());
+        assertEquals(0, reader.getSharedReadCount());
+    }
+}
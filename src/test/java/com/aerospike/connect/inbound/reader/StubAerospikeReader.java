@@ -0,0 +1,95 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.reader;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link AerospikeReader} over a map of records which counts the calls made
+ * to it.
+ */
+class StubAerospikeReader implements AerospikeReader {
+    final Map<Key, Record> records = new ConcurrentHashMap<>();
+    final AtomicInteger singleReads = new AtomicInteger();
+    final AtomicInteger batchReads = new AtomicInteger();
+    volatile long readDelayMillis;
+
+    @Override
+    @Deprecated
+    public Record getRecord(Key key) throws AerospikeException {
+        return get(null, key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key) throws AerospikeException {
+        singleReads.incrementAndGet();
+        delay();
+        return records.get(key);
+    }
+
+    @Override
+    public Record get(Policy policy, Key key, String... binNames) throws AerospikeException {
+        return get(policy, key);
+    }
+
+    @Override
+    public void get(BatchPolicy policy, List<BatchRead> records) throws AerospikeException {
+        batchReads.incrementAndGet();
+        delay();
+        for (BatchRead record : records) {
+            record.record = this.records.get(record.key);
+        }
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys) throws AerospikeException {
+        batchReads.incrementAndGet();
+        delay();
+        Record[] result = new Record[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = records.get(keys[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public Record[] get(BatchPolicy policy, Key[] keys, String... binNames) throws AerospikeException {
+        return get(policy, keys);
+    }
+
+    private void delay() {
+        if (readDelayMillis > 0) {
+            try {
+                Thread.sleep(readDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
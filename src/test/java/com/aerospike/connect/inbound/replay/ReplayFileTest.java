@@ -0,0 +1,148 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+import com.aerospike.connect.inbound.model.InboundMessage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ReplayFileWriter} and {@link ReplayFileReader}.
+ */
+class ReplayFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("name", "Alice");
+        fields.put("age", 42);
+        fields.put("score", 0.5f);
+        fields.put("active", true);
+        fields.put("nickname", null);
+        fields.put("photo", new byte[]{1, 2, 3});
+        fields.put("tags", Arrays.asList("a", 1L));
+        fields.put("address", Collections.singletonMap("city", "Bangalore"));
+
+        Path file = directory.resolve("messages.replay");
+        try (ReplayFileWriter writer = new ReplayFileWriter(file)) {
+            writer.write("key-1", fields);
+            writer.write(null, Collections.emptyMap());
+        }
+
+        try (ReplayFileReader reader = new ReplayFileReader(file)) {
+            for (int pass = 0; pass < 2; pass++) {
+                reader.rewind();
+                InboundMessage<Object, Object> message = reader.next();
+                assertEquals("key-1", message.getMessageKey().orElse(null));
+                Map<String, Object> read = message.getFields();
+                assertEquals("Alice", read.get("name"));
+                assertEquals(42L, read.get("age"));
+                assertEquals(0.5, read.get("score"));
+                assertEquals(true, read.get("active"));
+                assertNull(read.get("nickname"));
+                assertEquals(8, read.size());
+                assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) read.get("photo"));
+                assertEquals(Arrays.asList("a", 1L), read.get("tags"));
+                assertEquals(Collections.singletonMap("city", "Bangalore"),
+                        read.get("address"));
+
+                message = reader.next();
+                assertEquals(Collections.emptyMap(), message.getFields());
+                assertNull(reader.next());
+            }
+        }
+    }
+
+    @Test
+    void testSlidesWindowOverRecords() throws IOException {
+        Path file = directory.resolve("messages.replay");
+        try (ReplayFileWriter writer = new ReplayFileWriter(file)) {
+            for (int i = 0; i < 100; i++) {
+                writer.write((long) i, Collections.singletonMap("value",
+                        String.join("", Collections.nCopies(i, "x"))));
+            }
+        }
+
+        try (ReplayFileReader reader = new ReplayFileReader(file, 64)) {
+            for (int i = 0; i < 100; i++) {
+                InboundMessage<Object, Object> message = reader.next();
+                assertEquals((long) i, message.getMessageKey().orElse(null));
+                assertEquals(i, ((String) message.getFields().get("value"))
+                        .length());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void testRejectsInvalidFiles() throws IOException {
+        Path file = directory.resolve("invalid.replay");
+        Files.write(file, "not a replay file".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> new ReplayFileReader(file));
+
+        try (ReplayFileWriter writer = new ReplayFileWriter(file)) {
+            writer.write("key", Collections.singletonMap("name", "Alice"));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        try (ReplayFileReader reader = new ReplayFileReader(file)) {
+            assertThrows(IOException.class, reader::next);
+        }
+
+        try (ReplayFileWriter writer = new ReplayFileWriter(file)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.write(
+                    "key", Collections.singletonMap("thread", new Object())));
+        }
+    }
+
+    @Test
+    void testRejectsCorruptRecords() throws IOException {
+        Path file = directory.resolve("corrupt.replay");
+        try (ReplayFileWriter writer = new ReplayFileWriter(file)) {
+            writer.write("key", Collections.singletonMap("name", "Alice"));
+            writer.write("key", Collections.singletonMap("name", "Bob"));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int length = ByteBuffer.wrap(bytes).getInt(ReplayFormat.HEADER_SIZE);
+
+        for (int corrupt : new int[]{length - 1, length + 1, -1}) {
+            ByteBuffer.wrap(bytes).putInt(ReplayFormat.HEADER_SIZE, corrupt);
+            Files.write(file, bytes);
+            try (ReplayFileReader reader = new ReplayFileReader(file)) {
+                assertThrows(IOException.class, reader::next);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *
+ *  Copyright 2012-2026 Aerospike, Inc.
+ *
+ *  Portions may be licensed to Aerospike, Inc. under one or more contributor
+ *  license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.aerospike.connect.inbound.replay;
+
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.connect.inbound.AerospikeReader;
+import com.aerospike.connect.inbound.InboundMessageTransformer;
+import com.aerospike.connect.inbound.model.InboundMessage;
+import com.aerospike.connect.inbound.model.InboundMessageTransformerConfig;
+import com.aerospike.connect.inbound.operation.AerospikePutOperation;
+import com.aerospike.connect.inbound.operation.AerospikeRecordOperation;
+import com.aerospike.connect.inbound.operation.AerospikeSkipRecordOperation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link TransformerReplay}.
+ */
+class TransformerReplayTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReportsOperationMix() throws IOException {
+        Path file = writeMessages(10);
+        InboundMessageTransformerConfig config =
+                new InboundMessageTransformerConfig(CounterTransformer.class,
+                        Collections.singletonMap("set", "counters"), false);
+        TransformerReplay replay = new TransformerReplay(
+                TransformerReplay.newTransformer(config, new NoRecordsReader()),
+                null);
+
+        ReplayReport report;
+        try (ReplayFileReader reader = new ReplayFileReader(file)) {
+            report = replay.replay(reader, 1, 2);
+        }
+
+        assertEquals(20, report.getMessages());
+        assertEquals(16, report.getOperationCounts()
+                .get("AerospikePutOperation").longValue());
+        assertEquals(4, report.getOperationCounts()
+                .get("AerospikeSkipRecordOperation").longValue());
+        assertTrue(report.getP50Nanos() <= report.getP999Nanos());
+        assertTrue(report.getP999Nanos() <= report.getMaxNanos());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.toString().contains("AerospikePutOperation"));
+    }
+
+    @Test
+    void testRunAppliesOperationsAndGates() throws IOException {
+        Path file = writeMessages(5);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true, "UTF-8");
+
+        String[] args = {"--input", file.toString(), "--transformer",
+                CounterTransformer.class.getName(), "--config", "set=counters",
+                "--warmup-passes", "0", "--passes", "3", "--apply"};
+        assertEquals(0, TransformerReplay.run(args, out));
+        String report = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(report.contains("messages      15"), report);
+
+        String[] gated = {"--input", file.toString(), "--transformer",
+                CounterTransformer.class.getName(), "--config", "set=counters",
+                "--min-throughput", "1e12"};
+        assertEquals(1, TransformerReplay.run(gated, out));
+
+        assertThrows(IllegalArgumentException.class, () -> TransformerReplay
+                .run(new String[]{"--input", file.toString()}, out));
+        assertThrows(IllegalArgumentException.class, () -> TransformerReplay
+                .run(new String[]{"--input", file.toString(), "--transformer",
+                        String.class.getName()}, out));
+    }
+
+    private Path writeMessages(int count) throws IOException {
+        Path file = directory.resolve("messages.replay");
+        try (ReplayFileWriter writer = new ReplayFileWriter(file)) {
+            for (int i = 0; i < count; i++) {
+                writer.write("key-" + i, Collections.singletonMap("id",
+                        i % 5 == 4 ? null : (Object) ("user-" + i)));
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Counts the messages of every id, reading the current count from the
+     * injected reader.
+     */
+    public static class CounterTransformer
+            implements InboundMessageTransformer<InboundMessage<Object, Object>> {
+        private final AerospikeReader reader;
+        private final String set;
+
+        public CounterTransformer(AerospikeReader reader,
+                                  InboundMessageTransformerConfig config) {
+            this.reader = reader;
+            this.set = (String) config.getTransformerConfig().get("set");
+        }
+
+        @Override
+        public AerospikeRecordOperation transform(
+                InboundMessage<Object, Object> input) {
+            Object id = input.getFields().get("id");
+            if (id == null) {
+                return new AerospikeSkipRecordOperation();
+            }
+
+            Key key = new Key("test", set, (String) id);
+            Record record = reader.get(null, key);
+            long count = record == null ? 0 : record.getLong("count");
+            return new AerospikePutOperation(key, null,
+                    Collections.singletonList(new Bin("count", count + 1)));
+        }
+    }
+
+    private static class NoRecordsReader implements AerospikeReader {
+        @Override
+        @Deprecated
+        public Record getRecord(Key key) {
+            return null;
+        }
+
+        @Override
+        public Record get(Policy policy, Key key) {
+            return null;
+        }
+
+        @Override
+        public Record get(Policy policy, Key key, String... binNames) {
+            return null;
+        }
+
+        @Override
+        public void get(BatchPolicy policy, List<BatchRead> records) {
+        }
+
+        @Override
+        public Record[] get(BatchPolicy policy, Key[] keys) {
+            return new Record[keys.length];
+        }
+
+        @Override
+        public Record[] get(BatchPolicy policy, Key[] keys, String... binNames) {
+            return new Record[keys.length];
+        }
+    }
+}